@@ -0,0 +1,65 @@
+package com.contentpublishing.benchmarks;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.User;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared test data and wiring for the benchmarks. Components are built
+ * without a Spring context, so their injected fields are set reflectively.
+ */
+final class Fixtures {
+    
+    static final String TITLE = "Getting Started with Spring Boot 3: A Practical Guide (2024 Edition)!";
+    
+    private Fixtures() {
+    }
+    
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to inject " + fieldName + " into " + target.getClass().getName(), e);
+        }
+    }
+    
+    static User author() {
+        User author = new User("alice", "alice@example.com", "secret123", "Alice", "Writer");
+        author.setId(1L);
+        return author;
+    }
+    
+    static List<Tag> tags(int count) {
+        List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tag tag = new Tag("tag-" + i, "Description of tag " + i);
+            tag.setId((long) i + 1);
+            tag.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+            tag.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+            tags.add(tag);
+        }
+        return tags;
+    }
+    
+    static Article article(long id, int contentLength) {
+        StringBuilder content = new StringBuilder(contentLength);
+        while (content.length() < contentLength) {
+            content.append("Spring Boot makes it easy to create stand-alone, production-grade applications. ");
+        }
+        Article article = new Article(TITLE + " #" + id, content.substring(0, contentLength), author());
+        article.setId(id);
+        article.setSummary("A short walk through building and shipping a Spring Boot service.");
+        article.setTags(tags(5));
+        article.setViewCount(1234L);
+        article.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 9, 30));
+        article.publish();
+        return article;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.contentpublishing.benchmarks;
+
+import com.contentpublishing.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling done by the authentication filter on every request: a full
+ * HS512 verification through extractAllClaims, the cached parseToken path
+ * that repeat requests take, and token issuing at login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    
+    private JwtUtil jwtUtil;
+    private Method extractAllClaims;
+    private String token;
+    
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        Fixtures.inject(jwtUtil, "secret",
+            "benchmarkSecretKeyThatIsLongEnoughForHs512SignaturesAndThenSomeMorePaddingToBeSafe");
+        Fixtures.inject(jwtUtil, "jwtExpirationInMs", 86_400_000L);
+        Fixtures.inject(jwtUtil, "cacheMaxSize", 10_000);
+        Fixtures.inject(jwtUtil, "cacheTtlSeconds", 300L);
+        jwtUtil.init();
+        
+        extractAllClaims = JwtUtil.class.getDeclaredMethod("extractAllClaims", String.class);
+        extractAllClaims.setAccessible(true);
+        token = jwtUtil.generateTokenWithClaims(Fixtures.author(), Map.of("role", "USER", "uid", 1L));
+    }
+    
+    @Benchmark
+    public Object extractAllClaims() throws ReflectiveOperationException {
+        return extractAllClaims.invoke(jwtUtil, token);
+    }
+    
+    @Benchmark
+    public Optional<Claims> parseTokenCached() {
+        return jwtUtil.parseToken(token);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(Fixtures.author());
+    }
+}
\ No newline at end of file
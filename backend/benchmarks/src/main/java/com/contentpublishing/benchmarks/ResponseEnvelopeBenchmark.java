@@ -0,0 +1,85 @@
+package com.contentpublishing.benchmarks;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the success/data/message envelopes the controllers return,
+ * with an ObjectMapper configured the way Spring Boot configures its own: a
+ * 20-item summary page as returned by the listing endpoints and a single
+ * full article as returned by GET /api/articles/{id}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseEnvelopeBenchmark {
+    
+    private static final int PAGE_SIZE = 20;
+    
+    private ObjectMapper objectMapper;
+    private Page<ArticleSummary> summaryPage;
+    private Article article;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        
+        List<ArticleSummary> summaries = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Article source = Fixtures.article(id, 200);
+            ArticleSummary summary = new ArticleSummary(source.getId(), source.getTitle(), source.getSlug(),
+                source.getSummary(), source.getStatus(), null, source.getViewCount(), source.getCreatedAt(),
+                source.getUpdatedAt(), source.getPublishedAt(), 1L, "alice", "Alice", "Writer");
+            summary.setTags(source.getTags());
+            summaries.add(summary);
+        }
+        summaryPage = new PageImpl<>(summaries, PageRequest.of(0, PAGE_SIZE), 1000);
+        article = Fixtures.article(1, 8_000);
+    }
+    
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(envelope(summaryPage, "Articles retrieved successfully"));
+    }
+    
+    @Benchmark
+    public byte[] singleArticle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(envelope(article, "Article retrieved successfully"));
+    }
+    
+    private static Map<String, Object> envelope(Object data, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        response.put("message", message);
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.contentpublishing.benchmarks;
+
+import com.contentpublishing.entity.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Article.generateSlug is private and only runs from the constructor and the
+ * persist/update callbacks, so it is measured through the title constructor.
+ * The constructor itself adds little beyond the slug.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlugBenchmark {
+    
+    @Param({"Hello World", Fixtures.TITLE})
+    private String title;
+    
+    @Benchmark
+    public String generateSlug() {
+        return new Article(title, null, null).getSlug();
+    }
+}
\ No newline at end of file
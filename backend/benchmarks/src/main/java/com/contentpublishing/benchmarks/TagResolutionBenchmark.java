@@ -0,0 +1,100 @@
+package com.contentpublishing.benchmarks;
+
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.repository.TagRepository;
+import com.contentpublishing.service.TagService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU and allocation cost of TagService.resolveTags around its repository
+ * calls, for an article mixing tags given by id and by name. The repository
+ * answers from memory and every name already exists, so no insert is made;
+ * database round trips are measured by the load benchmarks instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagResolutionBenchmark {
+    
+    @Param({"5", "15"})
+    private int tagCount;
+    
+    private TagService tagService;
+    private List<Tag> requested;
+    
+    @Setup
+    public void setUp() {
+        List<Tag> existing = Fixtures.tags(tagCount);
+        Map<Long, Tag> byId = new HashMap<>();
+        Map<String, Tag> byName = new HashMap<>();
+        for (Tag tag : existing) {
+            byId.put(tag.getId(), tag);
+            byName.put(tag.getName().toLowerCase(Locale.ROOT), tag);
+        }
+        
+        tagService = new TagService();
+        Fixtures.inject(tagService, "tagRepository", inMemoryRepository(byId, byName));
+        
+        // Half the tags reference an existing id, the rest are matched by name
+        requested = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            Tag tag = new Tag();
+            if (i % 2 == 0) {
+                tag.setId(existing.get(i).getId());
+            } else {
+                tag.setName(existing.get(i).getName().toUpperCase(Locale.ROOT));
+            }
+            requested.add(tag);
+        }
+    }
+    
+    @Benchmark
+    public List<Tag> resolveTags() {
+        return tagService.resolveTags(requested);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static TagRepository inMemoryRepository(Map<Long, Tag> byId, Map<String, Tag> byName) {
+        return (TagRepository) Proxy.newProxyInstance(TagRepository.class.getClassLoader(),
+            new Class<?>[] {TagRepository.class}, (proxy, method, args) -> {
+                List<Tag> found = new ArrayList<>();
+                switch (method.getName()) {
+                    case "findAllById" -> ((Iterable<Long>) args[0]).forEach(id -> {
+                        if (byId.containsKey(id)) {
+                            found.add(byId.get(id));
+                        }
+                    });
+                    case "findByNameIn" -> ((Collection<String>) args[0]).forEach(name -> {
+                        Tag tag = byName.get(name.toLowerCase(Locale.ROOT));
+                        if (tag != null) {
+                            found.add(tag);
+                        }
+                    });
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+                return found;
+            });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.contentpublishing.benchmarks.load;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.User;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.TagRepository;
+import com.contentpublishing.repository.TagUsageRepository;
+import com.contentpublishing.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeds users, tags and articles through the application's own repositories,
+ * so ids, batching and second-level caching behave as in production. Content
+ * is drawn from a fixed vocabulary with a seeded random, so runs with the same
+ * options produce the same data. Tag use and article popularity are skewed
+ * towards a few tags and articles, as real traffic is.
+ */
+final class DataGenerator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerator.class);
+    
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_TAGS_PER_ARTICLE = 6;
+    private static final String PASSWORD = "password123";
+    
+    private static final String[] VOCABULARY = {
+        "spring", "java", "database", "cache", "index", "query", "latency", "throughput", "scaling", "cluster",
+        "kubernetes", "docker", "react", "frontend", "backend", "api", "security", "token", "schema", "migration",
+        "testing", "benchmark", "profiling", "memory", "garbage", "collector", "thread", "concurrency", "lock",
+        "transaction", "replication", "sharding", "search", "ranking", "editor", "publishing", "content", "article",
+        "workflow", "schedule", "release", "deployment", "monitoring", "logging", "metrics", "tracing", "network",
+        "protocol", "design", "architecture", "pattern", "refactoring", "performance", "optimization", "storage",
+        "stream", "event", "message", "queue", "pipeline"
+    };
+    
+    private final ConfigurableApplicationContext context;
+    private final LoadOptions options;
+    private final Random random;
+    
+    DataGenerator(ConfigurableApplicationContext context, LoadOptions options) {
+        this.context = context;
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+    
+    SeedData seed() {
+        long started = System.currentTimeMillis();
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TagRepository tagRepository = context.getBean(TagRepository.class);
+        ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        
+        // One hash for every user; encoding is deliberately slow
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> newUsers = new ArrayList<>(options.users);
+        for (int i = 0; i < options.users; i++) {
+            User user = new User("loaduser" + i, "loaduser" + i + "@example.com", encodedPassword, "Load", "User " + i);
+            user.setRole(User.Role.EDITOR);
+            newUsers.add(user);
+        }
+        List<User> users = transaction.execute(status -> userRepository.saveAll(newUsers));
+        
+        List<Tag> tags = new ArrayList<>(options.tags);
+        for (int i = 0; i < options.tags; i++) {
+            tags.add(new Tag(word(i) + "-" + i, "Generated tag " + i));
+        }
+        List<Long> tagIds = transaction.execute(status -> tagRepository.saveAll(tags)).stream()
+            .map(Tag::getId)
+            .toList();
+        
+        Map<Long, List<Long>> articlesByAuthor = new HashMap<>();
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> viewCounts = new ArrayList<>();
+        for (int from = 0; from < options.articles; from += CHUNK_SIZE) {
+            int to = Math.min(options.articles, from + CHUNK_SIZE);
+            int first = from;
+            List<Article> saved = transaction.execute(status -> {
+                List<Article> articles = new ArrayList<>(to - first);
+                for (int i = first; i < to; i++) {
+                    articles.add(article(i, users.get(i % users.size()), tagIds, tagRepository));
+                }
+                List<Article> result = articleRepository.saveAll(articles);
+                context.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.CREATED,
+                    result.stream().map(Article::getId).toList()));
+                return result;
+            });
+            for (Article article : saved) {
+                articlesByAuthor.computeIfAbsent(article.getAuthor().getId(), key -> new ArrayList<>()).add(article.getId());
+                if (article.getStatus() == Article.Status.PUBLISHED) {
+                    publishedIds.add(article.getId());
+                    viewCounts.add(article.getViewCount());
+                }
+            }
+        }
+        TagUsageRepository tagUsageRepository = context.getBean(TagUsageRepository.class);
+        transaction.executeWithoutResult(status -> tagUsageRepository.recountUsage());
+        
+        // Most viewed first, so workloads can pick popular articles with a skewed index
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < publishedIds.size(); i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Long.compare(viewCounts.get(b), viewCounts.get(a)));
+        List<Long> popularFirst = order.stream().map(publishedIds::get).toList();
+        
+        Map<String, Long> userIds = new HashMap<>();
+        users.forEach(user -> userIds.put(user.getUsername(), user.getId()));
+        List<String> searchTerms = List.of(VOCABULARY);
+        
+        logger.info("Seeded {} users, {} tags and {} articles ({} published) in {} ms", users.size(), tagIds.size(),
+            options.articles, popularFirst.size(), System.currentTimeMillis() - started);
+        return new SeedData(users.stream().map(User::getUsername).toList(), PASSWORD, userIds, articlesByAuthor,
+            popularFirst, tagIds, searchTerms);
+    }
+    
+    private Article article(int index, User author, List<Long> tagIds, TagRepository tagRepository) {
+        Article article = new Article(sentence(4 + random.nextInt(6)) + " " + index, paragraphs(), author);
+        article.setSummary(sentence(12 + random.nextInt(20)));
+        
+        Set<Tag> tags = new LinkedHashSet<>();
+        int tagCount = random.nextInt(MAX_TAGS_PER_ARTICLE + 1);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagRepository.getReferenceById(tagIds.get(skewed(tagIds.size()))));
+        }
+        article.setTags(new ArrayList<>(tags));
+        
+        if (random.nextDouble() < options.publishedRatio) {
+            article.publish();
+            article.setViewCount((long) (Math.pow(random.nextDouble(), 4) * 100_000));
+        }
+        return article;
+    }
+    
+    private String paragraphs() {
+        StringBuilder content = new StringBuilder();
+        int count = 2 + random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            content.append(sentence(40 + random.nextInt(80))).append("\n\n");
+        }
+        return content.toString().trim();
+    }
+    
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(word(skewed(VOCABULARY.length)));
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.append('.').toString();
+    }
+    
+    private static String word(int index) {
+        return VOCABULARY[index % VOCABULARY.length];
+    }
+    
+    // Index in [0, size) biased towards 0
+    private int skewed(int size) {
+        return (int) (Math.pow(random.nextDouble(), 2) * size);
+    }
+}
\ No newline at end of file
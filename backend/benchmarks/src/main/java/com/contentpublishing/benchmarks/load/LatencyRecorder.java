@@ -0,0 +1,65 @@
+package com.contentpublishing.benchmarks.load;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of one endpoint. Each worker thread records into its own
+ * instance and the instances are merged once the run is over, so recording
+ * takes no locks.
+ */
+final class LatencyRecorder {
+    
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private boolean sorted;
+    
+    void record(long nanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+        if (!success) {
+            errors++;
+        }
+    }
+    
+    void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+    
+    int count() {
+        return count;
+    }
+    
+    long errors() {
+        return errors;
+    }
+    
+    /**
+     * Returns the latency in milliseconds below which the given fraction of
+     * samples fall, using the nearest-rank method.
+     */
+    double percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(fraction * count);
+        return samples[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+    
+    double max() {
+        return percentile(1.0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.contentpublishing.benchmarks.load;
+
+import com.contentpublishing.ContentPublishingSystemApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load benchmark. Boots the application on a random port against
+ * an in-memory H2 database in MySQL mode, seeds it with generated data and
+ * drives the read mix, the editor write mix and a scheduled-publish burst
+ * over HTTP, then reports throughput and latency percentiles per endpoint.
+ *
+ * Usage: java -cp target/benchmarks.jar com.contentpublishing.benchmarks.load.LoadBenchmark [--name=value ...]
+ */
+public final class LoadBenchmark {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoadBenchmark.class);
+    
+    private LoadBenchmark() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        logger.info("Starting load benchmark: {}", options);
+        
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ContentPublishingSystemApplication.class)
+            .run(applicationArguments());
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            SeedData data = new DataGenerator(context, options).seed();
+            
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            Workloads workloads = new Workloads("http://localhost:" + port, data);
+            Map<Long, String> tokens = login(client, workloads, data);
+            
+            LoadReport report = new LoadReport(options);
+            LoadDriver driver = new LoadDriver(client);
+            for (String workload : options.workloads) {
+                logger.info("Running {} workload", workload);
+                switch (workload.trim()) {
+                    case "read" -> report.add("read", driver.run(workloads.read(), workers(options, data, tokens, 1),
+                        options.warmupSeconds, options.durationSeconds), options.durationSeconds);
+                    case "write" -> report.add("write", driver.run(workloads.write(), workers(options, data, tokens, 2),
+                        options.warmupSeconds, options.durationSeconds), options.durationSeconds);
+                    case "publish" -> new PublishBurst(context, client, workloads, tokens, options).run(report);
+                    default -> throw new IllegalArgumentException("Unknown workload: " + workload);
+                }
+            }
+            
+            report.print(System.out);
+            if (options.out != null) {
+                report.write(options.out);
+                logger.info("Results written to {}", options.out);
+            }
+        } finally {
+            context.close();
+        }
+    }
+    
+    // Command line arguments take precedence over application.properties
+    private static String[] applicationArguments() {
+        return new String[] {
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.jpa.show-sql=false",
+            "--logging.file.name=",
+            "--logging.level.com.contentpublishing=WARN",
+            "--logging.level.com.contentpublishing.benchmarks=INFO",
+            "--logging.level.org.springframework.security=WARN",
+            // Hibernate warns for every cached collection updated before it was first read, which floods the output
+            "--logging.level.org.hibernate.orm.cache=ERROR"
+        };
+    }
+    
+    private static Map<Long, String> login(HttpClient client, Workloads workloads, SeedData data) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<Long, String> tokens = new HashMap<>();
+        for (String username : data.usernames()) {
+            String body = objectMapper.writeValueAsString(Map.of("username", username, "password", data.password()));
+            HttpResponse<String> response = client.send(workloads.send("POST", "/api/auth/login", null, body),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Failed to log in as " + username + ": " + response.body());
+            }
+            tokens.put(data.userIds().get(username), objectMapper.readTree(response.body()).path("data").path("token").asText());
+        }
+        return tokens;
+    }
+    
+    private static List<Worker> workers(LoadOptions options, SeedData data, Map<Long, String> tokens, int round) {
+        List<Worker> workers = new ArrayList<>(options.threads);
+        for (int i = 0; i < options.threads; i++) {
+            Long userId = data.userIds().get(data.usernames().get(i % data.usernames().size()));
+            workers.add(new Worker(i, options.seed * 31 + round * 1000L + i, tokens.get(userId), userId,
+                data.articlesByAuthor().getOrDefault(userId, List.of())));
+        }
+        return workers;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.contentpublishing.benchmarks.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Drives a workload with a fixed number of closed-loop clients: each client
+ * sends its next request as soon as the previous one has returned. Requests
+ * made during the warmup are sent but not recorded.
+ */
+final class LoadDriver {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+    
+    private final HttpClient client;
+    
+    LoadDriver(HttpClient client) {
+        this.client = client;
+    }
+    
+    Map<String, LatencyRecorder> run(Workloads.Workload workload, List<Worker> workers, int warmupSeconds,
+                                     int durationSeconds) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = measureFrom + durationSeconds * 1_000_000_000L;
+        
+        List<Thread> threads = new ArrayList<>(workers.size());
+        for (Worker worker : workers) {
+            Thread thread = new Thread(() -> drive(workload, worker, measureFrom, end),
+                "load-" + workload.name() + "-" + worker.index);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        for (Worker worker : workers) {
+            worker.recorders.forEach((label, recorder) ->
+                merged.computeIfAbsent(label, key -> new LatencyRecorder()).merge(recorder));
+            worker.recorders.clear();
+        }
+        return merged;
+    }
+    
+    private void drive(Workloads.Workload workload, Worker worker, long measureFrom, long end) {
+        long failures = 0;
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= end) {
+                break;
+            }
+            Workloads.Operation operation = workload.pick(worker.random);
+            HttpRequest request = operation.request().apply(worker);
+            
+            boolean success;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() / 100 == 2;
+                body = response.body();
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - started;
+            
+            if (started >= measureFrom) {
+                worker.recorder(operation.label()).record(elapsed, success);
+            }
+            if (success && operation.onSuccess() != null) {
+                operation.onSuccess().accept(worker, body);
+            } else if (!success && failures++ < 3) {
+                logger.warn("{} {} failed: {}", request.method(), request.uri(), body);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.contentpublishing.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load benchmark, given as --name=value.
+ */
+final class LoadOptions {
+    
+    final int articles;
+    final int tags;
+    final int users;
+    final double publishedRatio;
+    final int threads;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final List<String> workloads;
+    final int burstSize;
+    final int burstLeadSeconds;
+    final long seed;
+    final String out;
+    
+    private LoadOptions(Map<String, String> values) {
+        articles = intValue(values, "articles", 5000);
+        tags = intValue(values, "tags", 200);
+        users = intValue(values, "users", 20);
+        publishedRatio = Double.parseDouble(values.getOrDefault("published-ratio", "0.8"));
+        threads = intValue(values, "threads", 8);
+        warmupSeconds = intValue(values, "warmup", 10);
+        durationSeconds = intValue(values, "duration", 30);
+        workloads = Arrays.asList(values.getOrDefault("workloads", "read,write,publish").split(","));
+        burstSize = intValue(values, "burst", 200);
+        burstLeadSeconds = intValue(values, "burst-lead", 5);
+        seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        out = values.get("out");
+        
+        if (users < 1 || tags < 1 || articles < users) {
+            throw new IllegalArgumentException("Need at least one user and tag, and at least one article per user");
+        }
+    }
+    
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadOptions(values);
+    }
+    
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+    
+    @Override
+    public String toString() {
+        return "articles=" + articles + ", tags=" + tags + ", users=" + users + ", threads=" + threads
+            + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s, workloads=" + workloads
+            + ", burst=" + burstSize + ", seed=" + seed;
+    }
+}
\ No newline at end of file
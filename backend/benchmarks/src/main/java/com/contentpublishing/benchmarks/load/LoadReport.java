@@ -0,0 +1,73 @@
+package com.contentpublishing.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the per-endpoint results of every workload and prints them as a
+ * table, optionally also writing them as JSON for comparison between runs.
+ */
+final class LoadReport {
+    
+    record Row(String label, int count, long errors, double throughput, double p50, double p90, double p99,
+               double p999, double max) {
+        
+        static Row of(String label, LatencyRecorder recorder, double seconds) {
+            return new Row(label, recorder.count(), recorder.errors(), recorder.count() / seconds,
+                recorder.percentile(0.50), recorder.percentile(0.90), recorder.percentile(0.99),
+                recorder.percentile(0.999), recorder.max());
+        }
+    }
+    
+    record Section(String workload, double seconds, List<Row> rows) {
+    }
+    
+    private final Map<String, Object> run = new LinkedHashMap<>();
+    private final List<Section> sections = new ArrayList<>();
+    
+    LoadReport(LoadOptions options) {
+        run.put("options", options.toString());
+        run.put("javaVersion", System.getProperty("java.version"));
+        run.put("processors", Runtime.getRuntime().availableProcessors());
+    }
+    
+    void add(String workload, Map<String, LatencyRecorder> recorders, double seconds) {
+        List<Row> rows = new ArrayList<>();
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((label, recorder) -> {
+            rows.add(Row.of(label, recorder, seconds));
+            total.merge(recorder);
+        });
+        if (recorders.size() > 1) {
+            rows.add(Row.of("total", total, seconds));
+        }
+        sections.add(new Section(workload, seconds, rows));
+    }
+    
+    void print(PrintStream out) {
+        for (Section section : sections) {
+            out.println();
+            out.printf("== %s (%.1f s)%n", section.workload(), section.seconds());
+            out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Row row : section.rows()) {
+                out.printf("%-36s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.label(), row.count(),
+                    row.errors(), row.throughput(), row.p50(), row.p90(), row.p99(), row.p999(), row.max());
+            }
+        }
+    }
+    
+    void write(String path) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>(run);
+        document.put("results", sections);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(path), document);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.contentpublishing.benchmarks.load;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.ArticleSpecifications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules a batch of drafts to publish at the same instant and measures how
+ * long after that instant each one actually went out, the way an editorial
+ * team's morning release lands on the scheduler.
+ */
+final class PublishBurst {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PublishBurst.class);
+    
+    private static final Duration MAX_WAIT = Duration.ofSeconds(60);
+    private static final long POLL_INTERVAL_MS = 100;
+    
+    private final ConfigurableApplicationContext context;
+    private final HttpClient client;
+    private final Workloads workloads;
+    private final Map<Long, String> tokensByUserId;
+    private final LoadOptions options;
+    
+    PublishBurst(ConfigurableApplicationContext context, HttpClient client, Workloads workloads,
+                 Map<Long, String> tokensByUserId, LoadOptions options) {
+        this.context = context;
+        this.client = client;
+        this.workloads = workloads;
+        this.tokensByUserId = tokensByUserId;
+        this.options = options;
+    }
+    
+    void run(LoadReport report) throws InterruptedException {
+        ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+        List<ArticleSummary> drafts = articleRepository
+            .findSummaries(ArticleSpecifications.withFilters(null, null, Article.Status.DRAFT, null), Sort.unsorted(),
+                options.burstSize).stream()
+            .filter(article -> tokensByUserId.containsKey(article.getAuthor().getId()))
+            .toList();
+        if (drafts.isEmpty()) {
+            logger.warn("No drafts left to schedule, skipping the publish burst");
+            return;
+        }
+        
+        LocalDateTime publishAt = LocalDateTime.now().plusSeconds(options.burstLeadSeconds).truncatedTo(ChronoUnit.MILLIS);
+        String scheduledAt = publishAt.atZone(ZoneId.systemDefault()).toOffsetDateTime().toString();
+        
+        // Create the schedules from as many clients as the other workloads use
+        Queue<Long> scheduled = new ConcurrentLinkedQueue<>();
+        Queue<LatencyRecorder> recorders = new ConcurrentLinkedQueue<>();
+        ThreadLocal<LatencyRecorder> recorder = ThreadLocal.withInitial(() -> {
+            LatencyRecorder created = new LatencyRecorder();
+            recorders.add(created);
+            return created;
+        });
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        for (ArticleSummary draft : drafts) {
+            executor.execute(() -> {
+                HttpRequest request = workloads.send("POST", "/api/schedules", tokensByUserId.get(draft.getAuthor().getId()),
+                    "{\"articleId\":" + draft.getId() + ",\"scheduledAt\":\"" + scheduledAt + "\"}");
+                long requestStarted = System.nanoTime();
+                boolean success = false;
+                try {
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    success = response.statusCode() / 100 == 2;
+                    if (!success) {
+                        logger.warn("Failed to schedule article {}: {}", draft.getId(), response.body());
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to schedule article {}: {}", draft.getId(), e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                recorder.get().record(System.nanoTime() - requestStarted, success);
+                if (success) {
+                    scheduled.add(draft.getId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(MAX_WAIT.toSeconds(), TimeUnit.SECONDS);
+        double creationSeconds = (System.nanoTime() - started) / 1e9;
+        
+        LatencyRecorder creation = new LatencyRecorder();
+        recorders.forEach(creation::merge);
+        report.add("publish burst: scheduling " + drafts.size() + " articles",
+            Map.of("POST /api/schedules", creation), creationSeconds);
+        if (LocalDateTime.now().isAfter(publishAt)) {
+            logger.warn("Scheduling took longer than the {}s lead; raise --burst-lead", options.burstLeadSeconds);
+        }
+        
+        // Poll until every scheduled article is published or the wait runs out
+        List<Long> ids = new ArrayList<>(scheduled);
+        LocalDateTime deadline = publishAt.plus(MAX_WAIT);
+        Map<Long, LocalDateTime> publishedAt = new HashMap<>();
+        while (publishedAt.size() < ids.size() && LocalDateTime.now().isBefore(deadline)) {
+            Thread.sleep(POLL_INTERVAL_MS);
+            for (Article article : articleRepository.findAllById(ids)) {
+                if (article.getStatus() == Article.Status.PUBLISHED && article.getPublishedAt() != null) {
+                    publishedAt.putIfAbsent(article.getId(), article.getPublishedAt());
+                }
+            }
+        }
+        
+        LatencyRecorder lag = new LatencyRecorder();
+        LocalDateTime last = publishAt;
+        for (Long id : ids) {
+            LocalDateTime published = publishedAt.get(id);
+            if (published == null) {
+                lag.record(MAX_WAIT.toNanos(), false);
+                continue;
+            }
+            lag.record(Math.max(0, Duration.between(publishAt, published).toNanos()), true);
+            last = published.isAfter(last) ? published : last;
+        }
+        double span = Math.max(Duration.between(publishAt, last).toNanos() / 1e9, 0.001);
+        report.add("publish burst: " + publishedAt.size() + " of " + ids.size() + " published",
+            Map.of("publish delay after scheduledAt", lag), span);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.contentpublishing.benchmarks.load;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the generator wrote, for the workloads to pick request targets from.
+ * Published ids are ordered from most to least popular.
+ */
+record SeedData(List<String> usernames, String password, Map<String, Long> userIds,
+                Map<Long, List<Long>> articlesByAuthor, List<Long> publishedIds, List<Long> tagIds,
+                List<String> searchTerms) {
+}
\ No newline at end of file
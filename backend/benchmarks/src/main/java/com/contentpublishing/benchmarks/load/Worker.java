@@ -0,0 +1,51 @@
+package com.contentpublishing.benchmarks.load;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * State of one simulated client: its login, the articles it owns and the
+ * latencies it has recorded. Only touched by its own thread.
+ */
+final class Worker {
+    
+    final int index;
+    final Random random;
+    final String token;
+    final Long userId;
+    final List<Long> ownArticles;
+    final Deque<Long> drafts = new ArrayDeque<>();
+    final Map<String, LatencyRecorder> recorders = new HashMap<>();
+    private int created;
+    
+    Worker(int index, long seed, String token, Long userId, List<Long> ownArticles) {
+        this.index = index;
+        this.random = new Random(seed);
+        this.token = token;
+        this.userId = userId;
+        this.ownArticles = new ArrayList<>(ownArticles);
+    }
+    
+    void articleCreated(Long id) {
+        ownArticles.add(id);
+        drafts.add(id);
+    }
+    
+    // Unique per worker, so generated titles never collide on the slug
+    String nextTitleSuffix() {
+        return "w" + index + "-" + (++created) + "-" + Long.toHexString(random.nextLong() & 0xffffffL);
+    }
+    
+    Long anyOwnArticle() {
+        return ownArticles.get(random.nextInt(ownArticles.size()));
+    }
+    
+    LatencyRecorder recorder(String label) {
+        return recorders.computeIfAbsent(label, key -> new LatencyRecorder());
+    }
+}
\ No newline at end of file
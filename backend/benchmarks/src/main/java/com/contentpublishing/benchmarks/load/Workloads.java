@@ -0,0 +1,169 @@
+package com.contentpublishing.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The request mixes driven against the application. Each operation is picked
+ * with a probability proportional to its weight; its label is the endpoint
+ * pattern latencies are reported under.
+ */
+final class Workloads {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    
+    record Operation(String label, int weight, Function<Worker, HttpRequest> request,
+                     BiConsumer<Worker, String> onSuccess) {
+    }
+    
+    record Workload(String name, List<Operation> operations) {
+        
+        Operation pick(Random random) {
+            int total = operations.stream().mapToInt(Operation::weight).sum();
+            int choice = random.nextInt(total);
+            for (Operation operation : operations) {
+                choice -= operation.weight();
+                if (choice < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("No operation picked");
+        }
+    }
+    
+    private final String baseUrl;
+    private final SeedData data;
+    
+    Workloads(String baseUrl, SeedData data) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+    }
+    
+    /**
+     * Anonymous and logged-in readers: article pages skewed towards popular
+     * articles, listings, search and the homepage feeds.
+     */
+    Workload read() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation("GET /api/articles/{id}", 50,
+            worker -> get("/api/articles/" + popularArticle(worker.random), null), null));
+        operations.add(new Operation("GET /api/articles/published", 15,
+            worker -> get("/api/articles/published?page=" + skewed(worker.random, 5) + "&size=10", null), null));
+        operations.add(new Operation("GET /api/articles/most-viewed", 10,
+            worker -> get("/api/articles/most-viewed", null), null));
+        operations.add(new Operation("GET /api/articles?search=", 10,
+            worker -> get("/api/articles?search=" + searchQuery(worker.random) + "&size=10", worker.token), null));
+        operations.add(new Operation("GET /api/articles", 5,
+            worker -> get("/api/articles?page=" + skewed(worker.random, 20) + "&size=20", worker.token), null));
+        operations.add(new Operation("GET /api/tags/popular", 5,
+            worker -> get("/api/tags/popular?limit=10", worker.token), null));
+        return new Workload("read", operations);
+    }
+    
+    /**
+     * Editors working on their own articles: creating drafts, revising them,
+     * publishing and listing what they have written.
+     */
+    Workload write() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation("POST /api/articles", 30,
+            worker -> send("POST", "/api/articles", worker.token, articleBody(worker)),
+            (worker, body) -> {
+                Long id = dataId(body);
+                if (id != null) {
+                    worker.articleCreated(id);
+                }
+            }));
+        operations.add(new Operation("PUT /api/articles/{id}", 30,
+            worker -> send("PUT", "/api/articles/" + worker.anyOwnArticle(), worker.token, articleBody(worker)), null));
+        operations.add(new Operation("POST /api/articles/{id}/publish", 15,
+            worker -> {
+                Long id = worker.drafts.isEmpty() ? worker.anyOwnArticle() : worker.drafts.poll();
+                return send("POST", "/api/articles/" + id + "/publish", worker.token, "");
+            }, null));
+        operations.add(new Operation("GET /api/articles?authorId=", 15,
+            worker -> get("/api/articles?authorId=" + worker.userId + "&size=20", worker.token), null));
+        operations.add(new Operation("GET /api/articles/{id}", 10,
+            worker -> get("/api/articles/" + worker.anyOwnArticle(), worker.token), null));
+        return new Workload("write", operations);
+    }
+    
+    HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+    
+    HttpRequest send(String method, String path, String token, String json) {
+        return builder(path, token)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+    
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+    
+    private Long popularArticle(Random random) {
+        return data.publishedIds().get(skewed(random, data.publishedIds().size()));
+    }
+    
+    private String searchQuery(Random random) {
+        List<String> terms = data.searchTerms();
+        String query = terms.get(random.nextInt(terms.size()));
+        if (random.nextBoolean()) {
+            query += " " + terms.get(random.nextInt(terms.size()));
+        }
+        return URLEncoder.encode(query, StandardCharsets.UTF_8);
+    }
+    
+    private String articleBody(Worker worker) {
+        Map<String, Object> article = new HashMap<>();
+        article.put("title", "Load test article " + worker.nextTitleSuffix());
+        article.put("content", "Generated by the load benchmark. ".repeat(20 + worker.random.nextInt(200)));
+        article.put("summary", "Generated by the load benchmark.");
+        List<Map<String, Object>> tags = new ArrayList<>();
+        int tagCount = worker.random.nextInt(5);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Map.of("id", data.tagIds().get(skewed(worker.random, data.tagIds().size()))));
+        }
+        article.put("tags", tags);
+        try {
+            return objectMapper.writeValueAsString(article);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write article body", e);
+        }
+    }
+    
+    static Long dataId(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).path("data").path("id");
+            return id.isMissingNode() ? null : id.asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read response body", e);
+        }
+    }
+    
+    // Index in [0, size) biased towards 0
+    static int skewed(Random random, int size) {
+        return (int) (Math.pow(random.nextDouble(), 3) * size);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.contentpublishing.analytics;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.VisitorSketch;
+import com.contentpublishing.entity.VisitorSketch.Scope;
+import com.contentpublishing.repository.VisitorSketchRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unique visitors per article and per tag, estimated with one
+ * {@link HyperLogLog} sketch per article or tag and day.
+ *
+ * Reads add the visitor to in-memory sketches of the current day; only
+ * articles and tags read since the last write hold one. Each write merges
+ * them into the stored sketches under a row lock, so several nodes can share
+ * the table. Queries merge the daily sketches of the requested range, which
+ * counts a visitor who came back on several days once.
+ */
+@Component
+public class UniqueVisitors {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UniqueVisitors.class);
+    
+    @Autowired
+    private VisitorSketchRepository sketchRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.analytics.unique-visitors.write-batch-size:500}")
+    private int writeBatchSize;
+    
+    @Value("${app.analytics.unique-visitors.retention-days:400}")
+    private long retentionDays;
+    
+    @Value("${app.analytics.unique-visitors.max-days:366}")
+    private long maxDays;
+    
+    private record SketchKey(Scope scope, long scopeId, LocalDate day) {
+    }
+    
+    // Each sketch is only touched inside compute() on its own key
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * Counts a visit to the article and to each of its tags. The visitor is
+     * any stable identifier; only its hash is kept.
+     */
+    public void recordVisit(Article article, String visitor) {
+        long hash = HyperLogLog.hash(visitor);
+        LocalDate today = LocalDate.now();
+        add(new SketchKey(Scope.ARTICLE, article.getId(), today), hash);
+        for (Tag tag : article.getTags()) {
+            add(new SketchKey(Scope.TAG, tag.getId(), today), hash);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.analytics.unique-visitors.write-interval-ms:60000}",
+               initialDelayString = "${app.analytics.unique-visitors.write-interval-ms:60000}")
+    public void writePending() {
+        try {
+            write();
+        } catch (Exception e) {
+            logger.error("Failed to write visitor sketches", e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        try {
+            write();
+            logger.info("Visitor sketches written on shutdown");
+        } catch (Exception e) {
+            logger.error("Failed to write visitor sketches on shutdown", e);
+        }
+    }
+    
+    /**
+     * Merges the pending sketches into the stored ones. Sketches that fail to
+     * be written are put back so they are retried next time.
+     */
+    public void write() {
+        Map<Scope, Map<LocalDate, Map<Long, HyperLogLog>>> drained = new HashMap<>();
+        for (SketchKey key : List.copyOf(pending.keySet())) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch != null) {
+                drained.computeIfAbsent(key.scope(), scope -> new HashMap<>())
+                    .computeIfAbsent(key.day(), day -> new HashMap<>())
+                    .put(key.scopeId(), sketch);
+            }
+        }
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int written = 0;
+        for (Map.Entry<Scope, Map<LocalDate, Map<Long, HyperLogLog>>> byScope : drained.entrySet()) {
+            for (Map.Entry<LocalDate, Map<Long, HyperLogLog>> byDay : byScope.getValue().entrySet()) {
+                Scope scope = byScope.getKey();
+                LocalDate day = byDay.getKey();
+                // Sorted ids keep the row locks in the same order on every node
+                List<Long> ids = byDay.getValue().keySet().stream().sorted().toList();
+                for (int from = 0; from < ids.size(); from += writeBatchSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + writeBatchSize, ids.size()));
+                    try {
+                        transactionTemplate.executeWithoutResult(status ->
+                            merge(scope, day, chunk, byDay.getValue()));
+                        written += chunk.size();
+                    } catch (RuntimeException e) {
+                        logger.error("Failed to write {} {} visitor sketches for {}", chunk.size(), scope, day, e);
+                        for (Long id : chunk) {
+                            HyperLogLog sketch = byDay.getValue().get(id);
+                            pending.merge(new SketchKey(scope, id, day), sketch, (current, failed) -> {
+                                current.merge(failed);
+                                return current;
+                            });
+                        }
+                    }
+                }
+            }
+        }
+        if (written > 0) {
+            logger.debug("Wrote {} visitor sketches", written);
+        }
+    }
+    
+    private void merge(Scope scope, LocalDate day, List<Long> ids, Map<Long, HyperLogLog> sketches) {
+        Map<Long, VisitorSketch> stored = new HashMap<>();
+        for (VisitorSketch row : sketchRepository.findForUpdate(scope, day, ids)) {
+            stored.put(row.getScopeId(), row);
+        }
+        // Stored rows are managed and flushed on commit; new ones are persisted without a lookup
+        for (Long id : ids) {
+            VisitorSketch row = stored.get(id);
+            HyperLogLog sketch = sketches.get(id);
+            if (row == null) {
+                row = new VisitorSketch(scope, id, day);
+                row.setSketch(sketch.toBytes());
+                entityManager.persist(row);
+            } else {
+                HyperLogLog merged = HyperLogLog.fromBytes(row.getSketch());
+                merged.merge(sketch);
+                row.setSketch(merged.toBytes());
+            }
+        }
+    }
+    
+    /**
+     * Deletes the sketches of days past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.compaction-interval-ms:3600000}",
+               initialDelayString = "${app.analytics.compaction-interval-ms:3600000}")
+    public void compact() {
+        try {
+            LocalDate before = LocalDate.now().minusDays(retentionDays);
+            Integer deleted = new TransactionTemplate(transactionManager).execute(status ->
+                sketchRepository.deleteOlderThan(before));
+            if (deleted != null && deleted > 0) {
+                logger.info("Deleted {} visitor sketches older than {}", deleted, before);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to compact visitor sketches", e);
+        }
+    }
+    
+    /**
+     * Estimates the distinct visitors of an article or tag over the days from
+     * {@code from} to {@code to}, both included, counting visits not yet
+     * written as well.
+     */
+    public Map<String, Object> getUniqueVisitors(Scope scope, Long scopeId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("The range must end on or after its first day");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new RuntimeException("The range covers more than " + maxDays + " days");
+        }
+        
+        HyperLogLog union = new HyperLogLog();
+        for (VisitorSketch row : sketchRepository.findRange(scope, scopeId, from, to)) {
+            union.merge(HyperLogLog.fromBytes(row.getSketch()));
+        }
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            pending.computeIfPresent(new SketchKey(scope, scopeId, day), (key, sketch) -> {
+                union.merge(sketch);
+                return sketch;
+            });
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(scope == Scope.ARTICLE ? "articleId" : "tagId", scopeId);
+        result.put("from", from);
+        result.put("to", to);
+        result.put("uniqueVisitors", union.estimate());
+        result.put("standardError", HyperLogLog.standardError());
+        return result;
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingSketches", pending.size());
+        stats.put("precision", HyperLogLog.PRECISION);
+        stats.put("standardError", HyperLogLog.standardError());
+        return stats;
+    }
+    
+    private void add(SketchKey key, long hash) {
+        pending.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(hash);
+            return target;
+        });
+    }
+}
\ No newline at end of file
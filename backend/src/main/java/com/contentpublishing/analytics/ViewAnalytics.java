@@ -0,0 +1,269 @@
+package com.contentpublishing.analytics;
+
+import com.contentpublishing.entity.ArticleViewBucket;
+import com.contentpublishing.entity.ArticleViewBucket.Resolution;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleViewBucketRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Time series of article views at minute, hour and day resolution.
+ *
+ * Views arrive with each view count flush and are added to in-memory minute
+ * buckets, stamped with the flush time. Once a minute has closed its buckets
+ * are written in one transaction, together with the matching hour and day
+ * rollups and the site-wide totals, as additive upserts. Queries therefore
+ * read at most one row per bucket and never touch individual views.
+ * Compaction drops each resolution once it is older than its retention, as
+ * the coarser rollups still cover it.
+ */
+@Component
+public class ViewAnalytics {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ViewAnalytics.class);
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO article_view_buckets (article_id, resolution, bucket_start, views) VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE views = views + VALUES(views)";
+    
+    private static final String COMPACT_SQL =
+        "DELETE FROM article_view_buckets WHERE resolution = ? AND bucket_start < ? LIMIT ?";
+    
+    @Autowired
+    private ArticleViewBucketRepository bucketRepository;
+    
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.analytics.write-batch-size:500}")
+    private int writeBatchSize;
+    
+    @Value("${app.analytics.retention.minute-hours:48}")
+    private long minuteRetentionHours;
+    
+    @Value("${app.analytics.retention.hour-days:90}")
+    private long hourRetentionDays;
+    
+    @Value("${app.analytics.retention.day-days:730}")
+    private long dayRetentionDays;
+    
+    @Value("${app.analytics.compaction-batch-size:10000}")
+    private int compactionBatchSize;
+    
+    @Value("${app.analytics.max-points:1440}")
+    private int maxPoints;
+    
+    private record BucketKey(long articleId, Resolution resolution, LocalDateTime start) {
+    }
+    
+    // Minute -> article -> views not yet written; guarded by itself
+    private final TreeMap<LocalDateTime, Map<Long, Long>> pending = new TreeMap<>();
+    
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        LocalDateTime minute = Resolution.MINUTE.bucketOf(LocalDateTime.now());
+        synchronized (pending) {
+            Map<Long, Long> bucket = pending.computeIfAbsent(minute, key -> new HashMap<>());
+            long total = 0;
+            for (Map.Entry<Long, Long> entry : event.getViews().entrySet()) {
+                bucket.merge(entry.getKey(), entry.getValue(), Long::sum);
+                total += entry.getValue();
+            }
+            bucket.merge(ArticleViewBucket.SITE_WIDE, total, Long::sum);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.analytics.write-interval-ms:30000}",
+               initialDelayString = "${app.analytics.write-interval-ms:30000}")
+    public void writeClosedMinutes() {
+        try {
+            write(Resolution.MINUTE.bucketOf(LocalDateTime.now()));
+        } catch (Exception e) {
+            logger.error("Failed to write view buckets", e);
+        }
+    }
+    
+    // Destroyed before the view count buffer, so its last views can still be collected
+    @PreDestroy
+    public void shutdown() {
+        try {
+            viewCountBuffer.flush();
+            write(LocalDateTime.MAX);
+            logger.info("View analytics written on shutdown");
+        } catch (Exception e) {
+            logger.error("Failed to write view buckets on shutdown", e);
+        }
+    }
+    
+    /**
+     * Writes every pending minute before the given one, with its rollups. The
+     * minutes are put back if the write fails, so they are retried next time.
+     */
+    public void write(LocalDateTime before) {
+        Map<LocalDateTime, Map<Long, Long>> minutes;
+        synchronized (pending) {
+            Map<LocalDateTime, Map<Long, Long>> closed = pending.headMap(before, false);
+            if (closed.isEmpty()) {
+                return;
+            }
+            minutes = new TreeMap<>(closed);
+            closed.clear();
+        }
+        
+        Map<BucketKey, Long> buckets = new HashMap<>();
+        minutes.forEach((minute, views) -> views.forEach((articleId, count) -> {
+            for (Resolution resolution : Resolution.values()) {
+                buckets.merge(new BucketKey(articleId, resolution, resolution.bucketOf(minute)), count, Long::sum);
+            }
+        }));
+        
+        // A fixed row order keeps concurrent writers on other nodes from deadlocking
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.comparingLong(BucketKey::articleId)
+                .thenComparing(BucketKey::resolution)
+                .thenComparing(BucketKey::start)))
+            .forEach(entry -> rows.add(new Object[] {entry.getKey().articleId(), entry.getKey().resolution().name(),
+                Timestamp.valueOf(entry.getKey().start()), entry.getValue()}));
+        
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (int from = 0; from < rows.size(); from += writeBatchSize) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(from + writeBatchSize, rows.size())));
+                }
+            });
+            logger.debug("Wrote {} view buckets for {} minutes", rows.size(), minutes.size());
+        } catch (RuntimeException e) {
+            synchronized (pending) {
+                minutes.forEach((minute, views) -> views.forEach((articleId, count) ->
+                    pending.computeIfAbsent(minute, key -> new HashMap<>()).merge(articleId, count, Long::sum)));
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Deletes buckets older than their resolution's retention, in bounded
+     * batches so no single statement holds locks for long.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.compaction-interval-ms:3600000}",
+               initialDelayString = "${app.analytics.compaction-interval-ms:3600000}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Resolution, LocalDateTime> cutoffs = new LinkedHashMap<>();
+        cutoffs.put(Resolution.MINUTE, now.minusHours(minuteRetentionHours));
+        cutoffs.put(Resolution.HOUR, now.minusDays(hourRetentionDays));
+        cutoffs.put(Resolution.DAY, now.minusDays(dayRetentionDays));
+        
+        cutoffs.forEach((resolution, cutoff) -> {
+            try {
+                long deleted = 0;
+                int batch;
+                do {
+                    batch = jdbcTemplate.update(COMPACT_SQL, resolution.name(), Timestamp.valueOf(cutoff),
+                        compactionBatchSize);
+                    deleted += batch;
+                } while (batch == compactionBatchSize);
+                if (deleted > 0) {
+                    logger.info("Compacted {} {} view buckets older than {}", deleted, resolution, cutoff);
+                }
+            } catch (Exception e) {
+                logger.error("Failed to compact {} view buckets", resolution, e);
+            }
+        });
+    }
+    
+    /**
+     * Returns the views of an article, or of the whole site for
+     * {@link ArticleViewBucket#SITE_WIDE}, per bucket in {@code [from, to)}.
+     * Buckets without views are included with zero, and views not yet written
+     * are counted as well.
+     */
+    public Map<String, Object> getSeries(Long articleId, Resolution resolution, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = resolution.bucketOf(from);
+        LocalDateTime end = resolution.bucketOf(to);
+        if (!end.isAfter(start)) {
+            throw new RuntimeException("The range must cover at least one " + resolution.name().toLowerCase() + " bucket");
+        }
+        long points = resolution.getUnit().between(start, end);
+        if (points > maxPoints) {
+            throw new RuntimeException("The range covers " + points + " buckets, at most " + maxPoints + " are allowed");
+        }
+        
+        Map<LocalDateTime, Long> views = new TreeMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = bucket.plus(1, resolution.getUnit())) {
+            views.put(bucket, 0L);
+        }
+        for (ArticleViewBucket bucket : bucketRepository.findSeries(articleId, resolution, start, end)) {
+            views.merge(bucket.getBucketStart(), bucket.getViews(), Long::sum);
+        }
+        synchronized (pending) {
+            pending.forEach((minute, counts) -> {
+                Long count = counts.get(articleId);
+                LocalDateTime bucket = resolution.bucketOf(minute);
+                if (count != null && !bucket.isBefore(start) && bucket.isBefore(end)) {
+                    views.merge(bucket, count, Long::sum);
+                }
+            });
+        }
+        
+        List<Map<String, Object>> series = new ArrayList<>(views.size());
+        long total = 0;
+        for (Map.Entry<LocalDateTime, Long> entry : views.entrySet()) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("bucketStart", entry.getKey());
+            point.put("views", entry.getValue());
+            series.add(point);
+            total += entry.getValue();
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("articleId", articleId == ArticleViewBucket.SITE_WIDE ? null : articleId);
+        result.put("resolution", resolution);
+        result.put("from", start);
+        result.put("to", end);
+        result.put("total", total);
+        result.put("series", series);
+        return result;
+    }
+    
+    /**
+     * Default range for a resolution: the last hour by minute, the last day by
+     * hour or the last thirty days by day, up to and including the current bucket.
+     */
+    public static LocalDateTime defaultFrom(Resolution resolution, LocalDateTime to) {
+        Duration span = switch (resolution) {
+            case MINUTE -> Duration.ofHours(1);
+            case HOUR -> Duration.ofDays(1);
+            case DAY -> Duration.ofDays(30);
+        };
+        return to.minus(span);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.contentpublishing.analytics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for article view counts.
+ *
+ * Reads only bump an in-memory counter; a background thread periodically drains
+ * the counters into batched {@code view_count = view_count + ?} updates. The
+ * counters are spread over independent stripes so hot articles do not contend
+ * with each other, and the number of buffered articles is bounded: once the
+ * limit is reached an early flush is triggered. If flushes keep failing the
+ * buffer stops at a hard cap; views of articles already buffered are still
+ * added up, views of any other article are dropped and counted. Each
+ * successful flush is announced with a {@link ViewCountsFlushedEvent}.
+ */
+@Component
+public class ViewCountBuffer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountBuffer.class);
+    
+    private static final String FLUSH_SQL = "UPDATE articles SET view_count = view_count + ? WHERE id = ?";
+    
+    // Marks a counter that has been drained and unlinked from its stripe
+    private static final long RETIRED = Long.MIN_VALUE;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.views.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+    
+    @Value("${app.views.max-pending-articles:10000}")
+    private int maxPendingArticles;
+    
+    @Value("${app.views.max-buffered-articles:50000}")
+    private int maxBufferedArticles;
+    
+    @Value("${app.views.flush-batch-size:500}")
+    private int flushBatchSize;
+    
+    private final ConcurrentHashMap<Long, AtomicLong>[] stripes;
+    private final AtomicLong pendingArticles = new AtomicLong();
+    private final AtomicLong droppedViews = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private volatile boolean shuttingDown;
+    
+    private ScheduledExecutorService flusher;
+    
+    @SuppressWarnings("unchecked")
+    public ViewCountBuffer() {
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2);
+        stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+    
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("View count buffer started: {} stripes, flush every {} ms, at most {} pending articles",
+                   stripes.length, flushIntervalMs, maxPendingArticles);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(flushIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Drain whatever is still buffered before the datasource goes away
+        flushQuietly();
+        logger.info("View count buffer drained on shutdown");
+    }
+    
+    /**
+     * Records a single view of the given article.
+     */
+    public void recordView(Long articleId) {
+        add(articleId, 1);
+    }
+    
+    /**
+     * Returns the number of views buffered for the article but not yet written.
+     */
+    public long getPendingViews(Long articleId) {
+        AtomicLong counter = stripeFor(articleId).get(articleId);
+        if (counter == null) {
+            return 0;
+        }
+        long pending = counter.get();
+        return pending == RETIRED ? 0 : pending;
+    }
+    
+    public long getPendingArticleCount() {
+        return pendingArticles.get();
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingArticles", pendingArticles.get());
+        stats.put("maxPendingArticles", maxPendingArticles);
+        stats.put("maxBufferedArticles", maxBufferedArticles);
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("droppedViews", droppedViews.get());
+        return stats;
+    }
+    
+    /**
+     * Drains all buffered counters into the database. Each batch is written in
+     * its own transaction, so a batch that fails is rolled back as a whole and
+     * its deltas, with those of the batches after it, are put back to be
+     * retried on the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            earlyFlushRequested.set(false);
+            List<Object[]> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            int written = 0;
+            try {
+                for (int from = 0; from < deltas.size(); from += flushBatchSize) {
+                    List<Object[]> batch = deltas.subList(from, Math.min(from + flushBatchSize, deltas.size()));
+                    transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+                    written += batch.size();
+                }
+                logger.debug("Flushed view counts for {} articles", written);
+            } catch (RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                logger.error("Failed to flush view counts, re-queueing {} articles", deltas.size() - written, e);
+                for (Object[] delta : deltas.subList(written, deltas.size())) {
+                    add((Long) delta[1], (Long) delta[0]);
+                }
+            }
+            if (written > 0) {
+                announce(deltas.subList(0, written));
+            }
+        }
+    }
+    
+    // Listeners run on the flushing thread; by shutdown they may already be gone
+    private void announce(List<Object[]> written) {
+        if (shuttingDown) {
+            return;
+        }
+        Map<Long, Long> views = new HashMap<>();
+        for (Object[] delta : written) {
+            views.put((Long) delta[1], (Long) delta[0]);
+        }
+        try {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(this, views));
+        } catch (RuntimeException e) {
+            logger.error("Failed to notify listeners of flushed view counts", e);
+        }
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("Unexpected error while flushing view counts", e);
+        }
+    }
+    
+    private List<Object[]> drain() {
+        List<Object[]> deltas = new ArrayList<>();
+        for (ConcurrentHashMap<Long, AtomicLong> stripe : stripes) {
+            for (Map.Entry<Long, AtomicLong> entry : stripe.entrySet()) {
+                long views = entry.getValue().getAndSet(RETIRED);
+                if (stripe.remove(entry.getKey(), entry.getValue())) {
+                    pendingArticles.decrementAndGet();
+                }
+                if (views != RETIRED && views > 0) {
+                    deltas.add(new Object[] {views, entry.getKey()});
+                }
+            }
+        }
+        return deltas;
+    }
+    
+    private void add(Long articleId, long views) {
+        ConcurrentHashMap<Long, AtomicLong> stripe = stripeFor(articleId);
+        while (true) {
+            AtomicLong counter = stripe.get(articleId);
+            if (counter == null) {
+                // Reserve the slot first so concurrent readers cannot overshoot the cap
+                long pending = pendingArticles.incrementAndGet();
+                if (pending > maxBufferedArticles) {
+                    pendingArticles.decrementAndGet();
+                    droppedViews.addAndGet(views);
+                    return;
+                }
+                if (stripe.putIfAbsent(articleId, new AtomicLong(views)) == null) {
+                    if (pending >= maxPendingArticles) {
+                        requestEarlyFlush();
+                    }
+                    return;
+                }
+                pendingArticles.decrementAndGet();
+                continue;
+            }
+            long current = counter.get();
+            if (current == RETIRED) {
+                // Drained concurrently; help unlink it and retry with a fresh counter
+                if (stripe.remove(articleId, counter)) {
+                    pendingArticles.decrementAndGet();
+                }
+                continue;
+            }
+            if (counter.compareAndSet(current, current + views)) {
+                return;
+            }
+        }
+    }
+    
+    private void requestEarlyFlush() {
+        if (earlyFlushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the final drain picks the counters up
+                earlyFlushRequested.set(false);
+            }
+        }
+    }
+    
+    private ConcurrentHashMap<Long, AtomicLong> stripeFor(Long articleId) {
+        long h = articleId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 32) & (stripes.length - 1)];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.contentpublishing.cache;
+
+import com.contentpublishing.entity.User;
+import com.contentpublishing.event.UserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of authenticated users by username, so requests carrying
+ * a JWT do not need a database round trip to rebuild the principal.
+ *
+ * Entries are evicted once a transaction that changed the user commits, on the
+ * {@link UserChangedEvent} it publishes. As with the article cache, a user loaded before an eviction is not
+ * cached after it. Callers get their own copy of the cached user, so changes
+ * made while handling one request never leak into another.
+ */
+@Component
+public class PrincipalCache {
+    
+    @Value("${app.cache.principals.max-size:10000}")
+    private int maxSize;
+    
+    @Value("${app.cache.principals.ttl-seconds:60}")
+    private long ttlSeconds;
+    
+    private BoundedCache<String, User> usersByUsername;
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    @PostConstruct
+    public void init() {
+        usersByUsername = new BoundedCache<>("principals", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+    
+    public User get(String username) {
+        User cached = usersByUsername.get(username);
+        return cached != null ? copyOf(cached) : null;
+    }
+    
+    /**
+     * Returns the current version, to be taken before loading a user that will
+     * be passed to {@link #put(User, long)}.
+     */
+    public long version() {
+        return version.get();
+    }
+    
+    /**
+     * Caches the user unless an eviction happened since {@code loadedAt} was taken.
+     */
+    public synchronized void put(User user, long loadedAt) {
+        if (version.get() == loadedAt) {
+            usersByUsername.put(user.getUsername(), copyOf(user));
+        }
+    }
+    
+    public synchronized void evict(String username) {
+        version.incrementAndGet();
+        usersByUsername.invalidate(username);
+    }
+    
+    public synchronized void evictAll() {
+        version.incrementAndGet();
+        usersByUsername.invalidateAll();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUsername());
+    }
+    
+    public Map<String, Object> getStats() {
+        return usersByUsername.getStats();
+    }
+    
+    private static User copyOf(User user) {
+        User copy = new User(user.getUsername(), user.getEmail(), user.getPassword(),
+            user.getFirstName(), user.getLastName());
+        copy.setId(user.getId());
+        copy.setPhoneNumber(user.getPhoneNumber());
+        copy.setRole(user.getRole());
+        copy.setIsEnabled(user.getIsEnabled());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        copy.setLastLogin(user.getLastLogin());
+        return copy;
+    }
+}
\ No newline at end of file
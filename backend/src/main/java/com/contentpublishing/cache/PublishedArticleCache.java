@@ -0,0 +1,156 @@
+package com.contentpublishing.cache;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.User;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.event.TagChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of published articles, addressable by id and by slug.
+ *
+ * Cached values are detached snapshots with author and tags initialized, so
+ * they can be served and serialized without a persistence context. Entries are
+ * evicted once the transaction that changed the article has committed.
+ *
+ * Every eviction bumps a version. Readers take the version before loading an
+ * article and pass it to {@link #put(Article, long)}, which drops the snapshot
+ * if anything was evicted meanwhile, so a row read before a change commits is
+ * not cached after the change's eviction.
+ */
+@Component
+public class PublishedArticleCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PublishedArticleCache.class);
+    
+    @Value("${app.cache.articles.max-size:1000}")
+    private int maxSize;
+    
+    @Value("${app.cache.articles.ttl-seconds:300}")
+    private long ttlSeconds;
+    
+    private BoundedCache<Long, Article> articlesById;
+    private BoundedCache<String, Long> idsBySlug;
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    @PostConstruct
+    public void init() {
+        articlesById = new BoundedCache<>("publishedArticles", maxSize, Duration.ofSeconds(ttlSeconds));
+        idsBySlug = new BoundedCache<>("publishedArticleSlugs", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+    
+    public Article getById(Long id) {
+        return articlesById.get(id);
+    }
+    
+    public Article getBySlug(String slug) {
+        Long id = idsBySlug.get(slug);
+        if (id == null) {
+            return null;
+        }
+        Article article = articlesById.get(id);
+        // The slug may have moved to another article since it was indexed
+        return article != null && slug.equals(article.getSlug()) ? article : null;
+    }
+    
+    /**
+     * Returns the current version, to be taken before loading an article that
+     * will be passed to {@link #put(Article, long)}.
+     */
+    public long version() {
+        return version.get();
+    }
+    
+    /**
+     * Caches a snapshot of the article if it is published and nothing was
+     * evicted since {@code loadedAt} was taken, and returns it; other articles
+     * are returned unchanged. Must be called while the article's persistence
+     * context is still open.
+     */
+    public Article put(Article article, long loadedAt) {
+        if (article.getStatus() != Article.Status.PUBLISHED) {
+            return article;
+        }
+        Article snapshot = snapshot(article);
+        synchronized (this) {
+            if (version.get() != loadedAt) {
+                return snapshot;
+            }
+            articlesById.put(snapshot.getId(), snapshot);
+            if (snapshot.getSlug() != null) {
+                idsBySlug.put(snapshot.getSlug(), snapshot.getId());
+            }
+        }
+        return snapshot;
+    }
+    
+    public synchronized void evict(Long id) {
+        version.incrementAndGet();
+        Article evicted = articlesById.invalidate(id);
+        if (evicted != null && evicted.getSlug() != null) {
+            idsBySlug.invalidate(evicted.getSlug());
+        }
+    }
+    
+    public synchronized void evictTaggedWith(Long tagId) {
+        version.incrementAndGet();
+        articlesById.invalidateIf(article -> article.getTags().stream().anyMatch(tag -> tagId.equals(tag.getId())));
+    }
+    
+    public synchronized void evictAll() {
+        version.incrementAndGet();
+        articlesById.invalidateAll();
+        idsBySlug.invalidateAll();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        logger.debug("Evicting {} article(s) from cache after {}", event.getArticleIds().size(), event.getType());
+        event.getArticleIds().forEach(this::evict);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        evictTaggedWith(event.getTagId());
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("byId", articlesById.getStats());
+        stats.put("bySlug", idsBySlug.getStats());
+        return stats;
+    }
+    
+    private Article snapshot(Article article) {
+        Article snapshot = new Article();
+        snapshot.setId(article.getId());
+        snapshot.setTitle(article.getTitle());
+        snapshot.setContent(article.getContent());
+        snapshot.setSummary(article.getSummary());
+        snapshot.setStatus(article.getStatus());
+        snapshot.setSlug(article.getSlug());
+        snapshot.setFeaturedImageUrl(article.getFeaturedImageUrl());
+        snapshot.setMetaTitle(article.getMetaTitle());
+        snapshot.setMetaDescription(article.getMetaDescription());
+        snapshot.setViewCount(article.getViewCount());
+        snapshot.setCreatedAt(article.getCreatedAt());
+        snapshot.setUpdatedAt(article.getUpdatedAt());
+        snapshot.setPublishedAt(article.getPublishedAt());
+        snapshot.setAuthor((User) Hibernate.unproxy(article.getAuthor()));
+        snapshot.setTags(new ArrayList<>(article.getTags()));
+        return snapshot;
+    }
+}
\ No newline at end of file
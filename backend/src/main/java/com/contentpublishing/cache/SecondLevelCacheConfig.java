@@ -0,0 +1,87 @@
+package com.contentpublishing.cache;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for read-mostly reference data: tags, users and
+ * the tag collection of each article. Regions live in an in-process Ehcache
+ * behind the JCache API, each with its own entry limit and time to live. The
+ * time to live bounds how long another node's writes can go unseen.
+ * <p>
+ * Tag usage counts live in their own table, so the counter writes that come
+ * with every article write leave the tags region alone. Each application
+ * context gets a cache manager of its own, created and closed with the
+ * context, so two contexts in one JVM never share regions.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+    
+    public static final String TAG_REGION = "tags";
+    public static final String USER_REGION = "users";
+    public static final String ARTICLE_TAGS_REGION = "article-tags";
+    
+    static final String[] REGIONS = {TAG_REGION, USER_REGION, ARTICLE_TAGS_REGION};
+    
+    @Value("${app.cache.l2.tags.max-size:5000}")
+    private long tagsMaxSize;
+    
+    @Value("${app.cache.l2.tags.ttl-seconds:600}")
+    private long tagsTtlSeconds;
+    
+    @Value("${app.cache.l2.users.max-size:10000}")
+    private long usersMaxSize;
+    
+    @Value("${app.cache.l2.users.ttl-seconds:60}")
+    private long usersTtlSeconds;
+    
+    @Value("${app.cache.l2.article-tags.max-size:20000}")
+    private long articleTagsMaxSize;
+    
+    @Value("${app.cache.l2.article-tags.ttl-seconds:600}")
+    private long articleTagsTtlSeconds;
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        URI uri = URI.create("urn:cms:second-level-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, ConfigurationBuilder.newConfigurationBuilder()
+            .withCache(TAG_REGION, region(TAG_REGION, tagsMaxSize, tagsTtlSeconds))
+            .withCache(USER_REGION, region(USER_REGION, usersMaxSize, usersTtlSeconds))
+            .withCache(ARTICLE_TAGS_REGION, region(ARTICLE_TAGS_REGION, articleTagsMaxSize, articleTagsTtlSeconds))
+            .build());
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+    
+    private static CacheConfiguration<Object, Object> region(String region, long maxSize, long ttlSeconds) {
+        logger.info("Second-level cache region '{}' configured: max {} entries, ttl {}s", region, maxSize, ttlSeconds);
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                ResourcePoolsBuilder.heap(maxSize))
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+            .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.contentpublishing.controller;
+
+import com.contentpublishing.analytics.UniqueVisitors;
+import com.contentpublishing.analytics.ViewAnalytics;
+import com.contentpublishing.entity.ArticleViewBucket;
+import com.contentpublishing.entity.ArticleViewBucket.Resolution;
+import com.contentpublishing.entity.VisitorSketch.Scope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AnalyticsController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+    
+    @Autowired
+    private ViewAnalytics viewAnalytics;
+    
+    @Autowired
+    private UniqueVisitors uniqueVisitors;
+    
+    @GetMapping("/views")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getSiteViews(
+            @RequestParam(defaultValue = "HOUR") Resolution resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return getViews(ArticleViewBucket.SITE_WIDE, resolution, from, to);
+    }
+    
+    @GetMapping("/articles/{id}/views")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getArticleViews(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "HOUR") Resolution resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return getViews(id, resolution, from, to);
+    }
+    
+    @GetMapping("/articles/{id}/visitors")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getArticleVisitors(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return getVisitors(Scope.ARTICLE, id, from, to);
+    }
+    
+    @GetMapping("/tags/{id}/visitors")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getTagVisitors(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return getVisitors(Scope.TAG, id, from, to);
+    }
+    
+    private ResponseEntity<?> getViews(Long articleId, Resolution resolution, LocalDateTime from, LocalDateTime to) {
+        try {
+            // Default to a range ending with the current bucket
+            LocalDateTime end = to != null ? to : LocalDateTime.now().plus(1, resolution.getUnit());
+            LocalDateTime start = from != null ? from : ViewAnalytics.defaultFrom(resolution, end);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", viewAnalytics.getSeries(articleId, resolution, start, end));
+            response.put("message", "View analytics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch view analytics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    private ResponseEntity<?> getVisitors(Scope scope, Long id, LocalDate from, LocalDate to) {
+        try {
+            // Default to the last thirty days, today included
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(29);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", uniqueVisitors.getUniqueVisitors(scope, id, start, end));
+            response.put("message", "Unique visitors retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch unique visitors", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,15 @@
 package com.contentpublishing.controller;
 
+import com.contentpublishing.analytics.UniqueVisitors;
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.dto.BulkStatusRequest;
 import com.contentpublishing.entity.Article;
+import com.contentpublishing.pagination.KeysetCursor;
+import com.contentpublishing.service.ArticleImportService;
 import com.contentpublishing.service.ArticleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,15 +18,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/articles")
@@ -27,9 +44,21 @@ public class ArticleController {
     
     private static final Logger logger = LoggerFactory.getLogger(ArticleController.class);
     
+    // viewCount keeps changing under a cursor, which would skip or repeat rows, so it is offset-only
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "createdAt", "title");
+    
     @Autowired
     private ArticleService articleService;
     
+    @Autowired
+    private ArticleImportService articleImportService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private UniqueVisitors uniqueVisitors;
+    
     @GetMapping
     public ResponseEntity<?> getAllArticles(
             @RequestParam(defaultValue = "0") int page,
@@ -40,15 +69,37 @@ public class ArticleController {
             @RequestParam(required = false) String content,
             @RequestParam(required = false) Article.Status status,
             @RequestParam(required = false) Long authorId,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String after) {
         try {
+            boolean searching = search != null && !search.trim().isEmpty();
+            // Search results are ranked by relevance, which has no keyset to seek past
+            if (after != null && searching) {
+                throw new IllegalArgumentException("Cursor pagination is not supported together with search");
+            }
+            
+            // Cursor mode: seek past the last row of the previous page instead of using OFFSET
+            if (after != null) {
+                Sort keysetSort = KeysetCursor.sort(sortBy, sortDir, KEYSET_SORT_PROPERTIES);
+                Window<ArticleSummary> window = articleService.getArticlesAfter(title, content, status, authorId,
+                    keysetSort, size, KeysetCursor.decode(after, keysetSort));
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", KeysetCursor.toSlice(window, size, keysetSort));
+                response.put("nextCursor", KeysetCursor.next(window));
+                response.put("message", "Articles retrieved successfully");
+                
+                return ResponseEntity.ok(response);
+            }
+            
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Article> articles;
+            Page<ArticleSummary> articles;
             
-            if (search != null && !search.trim().isEmpty()) {
+            if (searching) {
                 articles = articleService.searchArticles(search, pageable);
             } else if (title != null || content != null || status != null || authorId != null) {
                 articles = articleService.getArticlesWithFilters(title, content, status, authorId, pageable);
@@ -75,7 +126,7 @@ public class ArticleController {
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<?> getArticleById(@PathVariable Long id) {
+    public ResponseEntity<?> getArticleById(@PathVariable Long id, HttpServletRequest request) {
         try {
             Optional<Article> article = articleService.getArticleById(id);
             
@@ -97,6 +148,10 @@ public class ArticleController {
                     return ResponseEntity.notFound().build();
                 }
                 
+                if (foundArticle.getStatus() == Article.Status.PUBLISHED) {
+                    uniqueVisitors.recordVisit(foundArticle, visitorOf(request, isAuthenticated));
+                }
+                
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
                 response.put("data", foundArticle);
@@ -147,6 +202,95 @@ public class ArticleController {
         }
     }
     
+    /**
+     * Imports one article per line of an NDJSON body. The response is NDJSON too: one
+     * result per record, written as each chunk commits, followed by a summary line.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public void importArticles(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+        
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            Map<String, Object> summary = articleImportService.importArticles(reader, results -> {
+                for (Map<String, Object> result : results) {
+                    writeLine(writer, result);
+                }
+                writer.flush();
+            });
+            
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", true);
+            body.put("data", summary);
+            body.put("message", "Articles imported successfully");
+            writeLine(writer, body);
+            
+        } catch (UncheckedIOException e) {
+            // The client went away; stop importing rather than writing to a closed stream
+            logger.warn("Article import aborted: {}", e.getMessage());
+            return;
+        } catch (Exception e) {
+            logger.error("Failed to import articles", e);
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", false);
+            body.put("message", e.getMessage());
+            body.put("error", "IMPORT_FAILED");
+            writeLine(writer, body);
+        }
+        writer.flush();
+    }
+    
+    /**
+     * Writes every article as one NDJSON line, straight from a database cursor, so the
+     * export never holds more than a row at a time. A summary line closes the stream.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportArticles(@RequestParam(required = false) Article.Status status,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+        
+        try {
+            long exported = articleService.exportArticles(status, article -> writeLine(writer, article));
+            
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", true);
+            body.put("data", Map.of("exported", exported));
+            body.put("message", "Articles exported successfully");
+            writeLine(writer, body);
+            
+        } catch (UncheckedIOException e) {
+            logger.warn("Article export aborted: {}", e.getMessage());
+            return;
+        } catch (Exception e) {
+            // Rows may already have been sent, so the failure can only be reported in-band
+            logger.error("Failed to export articles", e);
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", false);
+            body.put("message", e.getMessage());
+            body.put("error", "EXPORT_FAILED");
+            writeLine(writer, body);
+        }
+        writer.flush();
+    }
+    
+    private void writeLine(PrintWriter writer, Object body) {
+        try {
+            writer.write(objectMapper.writeValueAsString(body));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (writer.checkError()) {
+            throw new UncheckedIOException(new IOException("Client closed the connection"));
+        }
+    }
+    
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> updateArticle(@PathVariable Long id, @Valid @RequestBody Article articleDetails) {
@@ -218,13 +362,59 @@ public class ArticleController {
         }
     }
     
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('EDITOR')")
+    public ResponseEntity<?> bulkTransition(@Valid @RequestBody BulkStatusRequest request) {
+        String action = request.getAction();
+        try {
+            ArticleService.StatusTransition transition;
+            try {
+                transition = ArticleService.StatusTransition.valueOf(action.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown bulk action: " + action);
+            }
+            Map<String, Object> result = articleService.transitionArticles(request.getIds(), transition);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", result);
+            response.put("message", "Articles updated successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to {} articles", action, e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "BULK_UPDATE_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
     @GetMapping("/published")
     public ResponseEntity<?> getPublishedArticles(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         try {
+            if (after != null) {
+                Sort keysetSort = Sort.by("publishedAt").descending().and(Sort.by("id").descending());
+                Window<ArticleSummary> window = articleService.getPublishedArticlesAfter(keysetSort, size,
+                    KeysetCursor.decode(after, keysetSort));
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", KeysetCursor.toSlice(window, size, keysetSort));
+                response.put("nextCursor", KeysetCursor.next(window));
+                response.put("message", "Published articles retrieved successfully");
+                
+                return ResponseEntity.ok(response);
+            }
+            
             Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-            Page<Article> articles = articleService.getPublishedArticles(pageable);
+            Page<ArticleSummary> articles = articleService.getPublishedArticles(pageable);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -247,7 +437,7 @@ public class ArticleController {
     @GetMapping("/most-viewed")
     public ResponseEntity<?> getMostViewedArticles() {
         try {
-            List<Article> articles = articleService.getMostViewedArticles();
+            List<ArticleSummary> articles = articleService.getMostViewedArticles();
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -266,4 +456,81 @@ public class ArticleController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+    
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingArticles() {
+        try {
+            List<ArticleSummary> articles = articleService.getTrendingArticles();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", articles);
+            response.put("message", "Trending articles retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch trending articles", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/{id}/related")
+    public ResponseEntity<?> getRelatedArticles(@PathVariable Long id) {
+        try {
+            List<ArticleSummary> articles = articleService.getRelatedArticles(id);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", articles);
+            response.put("message", "Related articles retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch related articles for ID: {}", id, e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/recent")
+    public ResponseEntity<?> getRecentArticles() {
+        try {
+            List<ArticleSummary> articles = articleService.getRecentArticles();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", articles);
+            response.put("message", "Recent articles retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch recent articles", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    // Signed-in readers are counted by username, anonymous ones by address and user agent
+    private String visitorOf(HttpServletRequest request, boolean isAuthenticated) {
+        if (isAuthenticated) {
+            return "user:" + SecurityContextHolder.getContext().getAuthentication().getName();
+        }
+        return "anonymous:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.contentpublishing.controller;
 
 import com.contentpublishing.entity.Article;
 import com.contentpublishing.entity.PublishSchedule;
+import com.contentpublishing.pagination.KeysetCursor;
 import com.contentpublishing.repository.ArticleRepository;
 import com.contentpublishing.service.PublishScheduleService;
 import jakarta.validation.Valid;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +24,7 @@ import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/schedules")
@@ -30,6 +33,8 @@ public class PublishScheduleController {
     
     private static final Logger logger = LoggerFactory.getLogger(PublishScheduleController.class);
     
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "scheduledAt");
+    
     @Autowired
     private PublishScheduleService scheduleService;
     
@@ -47,8 +52,24 @@ public class PublishScheduleController {
             @RequestParam(required = false) Long articleId,
             @RequestParam(required = false) Long createdById,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @RequestParam(required = false) String after) {
         try {
+            // Cursor mode: seek past the last row of the previous page instead of using OFFSET
+            if (after != null) {
+                Sort keysetSort = KeysetCursor.sort(sortBy, sortDir, KEYSET_SORT_PROPERTIES);
+                Window<PublishSchedule> window = scheduleService.getSchedulesAfter(status, articleId, createdById,
+                    fromDate, toDate, keysetSort, size, KeysetCursor.decode(after, keysetSort));
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", KeysetCursor.toSlice(window, size, keysetSort));
+                response.put("nextCursor", KeysetCursor.next(window));
+                response.put("message", "Schedules retrieved successfully");
+                
+                return ResponseEntity.ok(response);
+            }
+            
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
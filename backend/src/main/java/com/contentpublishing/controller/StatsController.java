@@ -0,0 +1,206 @@
+package com.contentpublishing.controller;
+
+import com.contentpublishing.analytics.UniqueVisitors;
+import com.contentpublishing.analytics.ViewCountBuffer;
+import com.contentpublishing.cache.PrincipalCache;
+import com.contentpublishing.cache.PublishedArticleCache;
+import com.contentpublishing.cache.SecondLevelCacheStats;
+import com.contentpublishing.feed.MostViewedArticles;
+import com.contentpublishing.feed.RecentArticles;
+import com.contentpublishing.feed.RelatedArticles;
+import com.contentpublishing.feed.TrendingArticles;
+import com.contentpublishing.scheduling.PublishScheduler;
+import com.contentpublishing.search.ArticleSearchIndex;
+import com.contentpublishing.security.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class StatsController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StatsController.class);
+    
+    @Autowired
+    private PublishedArticleCache articleCache;
+    
+    @Autowired
+    private ArticleSearchIndex searchIndex;
+    
+    @Autowired
+    private PublishScheduler publishScheduler;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+    
+    @Autowired
+    private MostViewedArticles mostViewedArticles;
+    
+    @Autowired
+    private RecentArticles recentArticles;
+    
+    @Autowired
+    private TrendingArticles trendingArticles;
+    
+    @Autowired
+    private RelatedArticles relatedArticles;
+    
+    @Autowired
+    private UniqueVisitors uniqueVisitors;
+    
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @GetMapping("/cache")
+    public ResponseEntity<?> getCacheStats() {
+        try {
+            Map<String, Object> caches = new HashMap<>();
+            caches.put("publishedArticles", articleCache.getStats());
+            caches.put("jwtClaims", jwtUtil.getCacheStats());
+            caches.put("principals", principalCache.getStats());
+            caches.put("secondLevel", secondLevelCacheStats.getStats());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", caches);
+            response.put("message", "Cache statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch cache statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<?> getSearchIndexStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", searchIndex.getStats());
+            response.put("message", "Search index statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch search index statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/scheduler")
+    public ResponseEntity<?> getSchedulerStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", publishScheduler.getStats());
+            response.put("message", "Scheduler statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch scheduler statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/feeds")
+    public ResponseEntity<?> getFeedStats() {
+        try {
+            Map<String, Object> feeds = new HashMap<>();
+            feeds.put("mostViewed", mostViewedArticles.getStats());
+            feeds.put("recent", recentArticles.getStats());
+            feeds.put("trending", trendingArticles.getStats());
+            feeds.put("related", relatedArticles.getStats());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", feeds);
+            response.put("message", "Feed statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch feed statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/visitors")
+    public ResponseEntity<?> getVisitorStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", uniqueVisitors.getStats());
+            response.put("message", "Unique visitor statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch unique visitor statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    @GetMapping("/views")
+    public ResponseEntity<?> getViewBufferStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", viewCountBuffer.getStats());
+            response.put("message", "View buffer statistics retrieved successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to fetch view buffer statistics", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "FETCH_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.contentpublishing.controller;
 
 import com.contentpublishing.entity.Tag;
+import com.contentpublishing.pagination.KeysetCursor;
 import com.contentpublishing.service.TagService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/tags")
@@ -26,6 +29,8 @@ public class TagController {
     
     private static final Logger logger = LoggerFactory.getLogger(TagController.class);
     
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "name");
+    
     @Autowired
     private TagService tagService;
     
@@ -37,8 +42,25 @@ public class TagController {
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String description,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String after) {
         try {
+            // Cursor mode: seek past the last row of the previous page instead of using OFFSET
+            if (after != null) {
+                Sort keysetSort = KeysetCursor.sort(sortBy, sortDir, KEYSET_SORT_PROPERTIES);
+                String nameFilter = search != null && !search.trim().isEmpty() ? search : name;
+                Window<Tag> window = tagService.getTagsAfter(nameFilter, description, keysetSort, size,
+                    KeysetCursor.decode(after, keysetSort));
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", KeysetCursor.toSlice(window, size, keysetSort));
+                response.put("nextCursor", KeysetCursor.next(window));
+                response.put("message", "Tags retrieved successfully");
+                
+                return ResponseEntity.ok(response);
+            }
+            
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
@@ -174,6 +196,35 @@ public class TagController {
         }
     }
     
+    /**
+     * Rebuilds every tag's usage count from the article tags. Only needed once
+     * after counts were written outside the application; see
+     * {@link TagService#recountUsage()}.
+     */
+    @PostMapping("/usage/recount")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> recountUsage() {
+        try {
+            int updated = tagService.recountUsage();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", Map.of("updated", updated));
+            response.put("message", "Tag usage recounted successfully");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            logger.error("Failed to recount tag usage", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("error", "RECOUNT_FAILED");
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
     @GetMapping("/popular")
     public ResponseEntity<?> getMostUsedTags(@RequestParam(defaultValue = "10") int limit) {
         try {
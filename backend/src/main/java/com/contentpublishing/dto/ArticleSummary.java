@@ -0,0 +1,137 @@
+package com.contentpublishing.dto;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listing view of an article. Carries everything list pages render but never
+ * the article content, which is only loaded for single-article reads.
+ */
+public class ArticleSummary {
+    
+    private Long id;
+    private String title;
+    private String slug;
+    private String summary;
+    private Article.Status status;
+    private String featuredImageUrl;
+    private Long viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+    private AuthorSummary author;
+    private List<Tag> tags = new ArrayList<>();
+    
+    public ArticleSummary(Long id, String title, String slug, String summary, Article.Status status,
+                          String featuredImageUrl, Long viewCount, LocalDateTime createdAt,
+                          LocalDateTime updatedAt, LocalDateTime publishedAt, Long authorId,
+                          String authorUsername, String authorFirstName, String authorLastName) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.summary = summary;
+        this.status = status;
+        this.featuredImageUrl = featuredImageUrl;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.publishedAt = publishedAt;
+        this.author = new AuthorSummary(authorId, authorUsername, authorFirstName, authorLastName);
+    }
+    
+    public static class AuthorSummary {
+        
+        private Long id;
+        private String username;
+        private String firstName;
+        private String lastName;
+        
+        public AuthorSummary(Long id, String username, String firstName, String lastName) {
+            this.id = id;
+            this.username = username;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public String getUsername() {
+            return username;
+        }
+        
+        public String getFirstName() {
+            return firstName;
+        }
+        
+        public String getLastName() {
+            return lastName;
+        }
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public String getSummary() {
+        return summary;
+    }
+    
+    public Article.Status getStatus() {
+        return status;
+    }
+    
+    public String getFeaturedImageUrl() {
+        return featuredImageUrl;
+    }
+    
+    public Long getViewCount() {
+        return viewCount;
+    }
+    
+    // A copy rather than a setter, so summaries already handed out never change while being serialized
+    public ArticleSummary withViewCount(Long viewCount) {
+        ArticleSummary copy = new ArticleSummary(id, title, slug, summary, status, featuredImageUrl, viewCount,
+            createdAt, updatedAt, publishedAt, author.getId(), author.getUsername(), author.getFirstName(),
+            author.getLastName());
+        copy.setTags(tags);
+        return copy;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+    
+    public AuthorSummary getAuthor() {
+        return author;
+    }
+    
+    public List<Tag> getTags() {
+        return tags;
+    }
+    
+    public void setTags(List<Tag> tags) {
+        this.tags = tags;
+    }
+}
\ No newline at end of file
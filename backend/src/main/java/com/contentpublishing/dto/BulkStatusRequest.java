@@ -0,0 +1,38 @@
+package com.contentpublishing.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class BulkStatusRequest {
+    
+    @NotBlank(message = "Action is required")
+    private String action;
+    
+    @NotEmpty(message = "At least one article id is required")
+    private List<Long> ids;
+    
+    public BulkStatusRequest() {}
+    
+    public BulkStatusRequest(String action, List<Long> ids) {
+        this.action = action;
+        this.ids = ids;
+    }
+    
+    public String getAction() {
+        return action;
+    }
+    
+    public void setAction(String action) {
+        this.action = action;
+    }
+    
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
\ No newline at end of file
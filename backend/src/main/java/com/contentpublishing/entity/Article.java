@@ -1,9 +1,13 @@
 package com.contentpublishing.entity;
 
+import com.contentpublishing.cache.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,11 +15,23 @@ import java.util.List;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "schedules"})
 @Entity
-@Table(name = "articles")
+@NamedEntityGraph(name = "Article.withAuthorAndTags", attributeNodes = {
+    @NamedAttributeNode("author"),
+    @NamedAttributeNode("tags")
+})
+@Table(name = "articles", indexes = {
+    @Index(name = "idx_articles_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_articles_title_id", columnList = "title, id"),
+    @Index(name = "idx_articles_view_count_id", columnList = "view_count, id"),
+    @Index(name = "idx_articles_status_published_at_id", columnList = "status, published_at, id"),
+    @Index(name = "idx_articles_updated_at", columnList = "updated_at")
+})
 public class Article {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_ids")
+    @TableGenerator(name = "article_ids", table = "id_generators", pkColumnName = "entity_name",
+                    valueColumnName = "next_val", pkColumnValue = "articles", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Title is required")
@@ -68,6 +84,8 @@ public class Article {
     private User author;
     
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTICLE_TAGS_REGION)
+    @BatchSize(size = 50)
     @JoinTable(
         name = "article_tags",
         joinColumns = @JoinColumn(name = "article_id"),
@@ -76,6 +94,7 @@ public class Article {
     private List<Tag> tags = new ArrayList<>();
     
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<PublishSchedule> schedules = new ArrayList<>();
     
     public enum Status {
@@ -0,0 +1,54 @@
+package com.contentpublishing.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of an article's trending score, decayed to the time it was
+ * taken and summed over every node that checkpoints into it. The live scores
+ * are kept in memory; these rows only restore them after a restart.
+ */
+@Entity
+@Table(name = "article_trending_scores")
+public class ArticleTrendingScore {
+    
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+    
+    @Column(nullable = false)
+    private Double score;
+    
+    @Column(name = "checkpointed_at", nullable = false)
+    private LocalDateTime checkpointedAt;
+    
+    // Constructors
+    public ArticleTrendingScore() {
+    }
+    
+    // Getters and Setters
+    public Long getArticleId() {
+        return articleId;
+    }
+    
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+    
+    public Double getScore() {
+        return score;
+    }
+    
+    public void setScore(Double score) {
+        this.score = score;
+    }
+    
+    public LocalDateTime getCheckpointedAt() {
+        return checkpointedAt;
+    }
+    
+    public void setCheckpointedAt(LocalDateTime checkpointedAt) {
+        this.checkpointedAt = checkpointedAt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.contentpublishing.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Number of views an article received in one time bucket. Every view is
+ * counted at minute, hour and day resolution; coarser buckets outlive finer
+ * ones. Site-wide totals are stored under {@link #SITE_WIDE}.
+ */
+@Entity
+@IdClass(ArticleViewBucket.Key.class)
+@Table(name = "article_view_buckets", indexes = {
+    @Index(name = "idx_article_view_buckets_resolution_start", columnList = "resolution, bucket_start")
+})
+public class ArticleViewBucket {
+    
+    public static final long SITE_WIDE = 0L;
+    
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Resolution resolution;
+    
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+    
+    @Column(nullable = false)
+    private Long views = 0L;
+    
+    public enum Resolution {
+        MINUTE(ChronoUnit.MINUTES), HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+        
+        private final ChronoUnit unit;
+        
+        Resolution(ChronoUnit unit) {
+            this.unit = unit;
+        }
+        
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+        
+        public LocalDateTime bucketOf(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+    
+    public static class Key implements Serializable {
+        
+        private Long articleId;
+        private Resolution resolution;
+        private LocalDateTime bucketStart;
+        
+        public Key() {
+        }
+        
+        public Key(Long articleId, Resolution resolution, LocalDateTime bucketStart) {
+            this.articleId = articleId;
+            this.resolution = resolution;
+            this.bucketStart = bucketStart;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(articleId, key.articleId) && resolution == key.resolution
+                && Objects.equals(bucketStart, key.bucketStart);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(articleId, resolution, bucketStart);
+        }
+    }
+    
+    // Constructors
+    public ArticleViewBucket() {
+    }
+    
+    // Getters and Setters
+    public Long getArticleId() {
+        return articleId;
+    }
+    
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+    
+    public Resolution getResolution() {
+        return resolution;
+    }
+    
+    public void setResolution(Resolution resolution) {
+        this.resolution = resolution;
+    }
+    
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+    
+    public Long getViews() {
+        return views;
+    }
+    
+    public void setViews(Long views) {
+        this.views = views;
+    }
+}
\ No newline at end of file
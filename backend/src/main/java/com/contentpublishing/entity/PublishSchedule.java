@@ -2,22 +2,27 @@ package com.contentpublishing.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "article", "createdBy"})
 @Entity
-@Table(name = "publish_schedules")
+@Table(name = "publish_schedules", indexes = {
+    @Index(name = "idx_publish_schedules_scheduled_at_id", columnList = "scheduled_at, id"),
+    @Index(name = "idx_publish_schedules_status_scheduled_at", columnList = "status, scheduled_at")
+})
 public class PublishSchedule {
     
+    private static final int ERROR_MESSAGE_LENGTH = 255;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "publish_schedule_ids")
+    @TableGenerator(name = "publish_schedule_ids", table = "id_generators", pkColumnName = "entity_name",
+                    valueColumnName = "next_val", pkColumnValue = "publish_schedules", allocationSize = 50)
     private Long id;
     
     @NotNull(message = "Scheduled publish time is required")
-    @Future(message = "Scheduled publish time must be in the future")
     @Column(name = "scheduled_at", nullable = false)
     private LocalDateTime scheduledAt;
     
@@ -28,7 +33,7 @@ public class PublishSchedule {
     @Column(name = "executed_at")
     private LocalDateTime executedAt;
     
-    @Column(name = "error_message")
+    @Column(name = "error_message", length = ERROR_MESSAGE_LENGTH)
     private String errorMessage;
     
     @Column(name = "retry_count", nullable = false)
@@ -37,6 +42,13 @@ public class PublishSchedule {
     @Column(name = "max_retries", nullable = false)
     private Integer maxRetries = 3;
     
+    // Node currently allowed to execute the schedule, until the lease expires
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+    
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+    
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
@@ -72,16 +84,34 @@ public class PublishSchedule {
     public void markAsExecuted() {
         this.status = Status.EXECUTED;
         this.executedAt = LocalDateTime.now();
+        releaseLease();
     }
     
     public void markAsFailed(String errorMessage) {
         this.status = Status.FAILED;
-        this.errorMessage = errorMessage;
+        // Driver messages quote the failed SQL and easily overflow the column
+        this.errorMessage = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH
+            ? errorMessage.substring(0, ERROR_MESSAGE_LENGTH) : errorMessage;
         this.retryCount++;
+        releaseLease();
     }
     
     public void cancel() {
         this.status = Status.CANCELLED;
+        releaseLease();
+    }
+    
+    public void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+    
+    public boolean isLeasedBy(String owner) {
+        return owner.equals(leaseOwner);
+    }
+    
+    public boolean isLeaseActive() {
+        return leaseExpiresAt != null && leaseExpiresAt.isAfter(LocalDateTime.now());
     }
     
     public boolean canRetry() {
@@ -181,6 +211,22 @@ public class PublishSchedule {
         this.updatedAt = updatedAt;
     }
     
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+    
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+    
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+    
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+    
     public Article getArticle() {
         return article;
     }
@@ -1,9 +1,13 @@
 package com.contentpublishing.entity;
 
+import com.contentpublishing.cache.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,11 +15,17 @@ import java.util.List;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "articles"})
 @Entity
-@Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TAG_REGION)
+@Table(name = "tags", indexes = {
+    @Index(name = "idx_tags_name_id", columnList = "name, id")
+})
 public class Tag {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tag_ids")
+    @TableGenerator(name = "tag_ids", table = "id_generators", pkColumnName = "entity_name",
+                    valueColumnName = "next_val", pkColumnValue = "tags", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Tag name is required")
@@ -38,6 +48,7 @@ public class Tag {
     
     // Relationships
     @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<Article> articles = new ArrayList<>();
     
     // Constructors
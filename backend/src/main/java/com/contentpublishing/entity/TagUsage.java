@@ -0,0 +1,45 @@
+package com.contentpublishing.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Number of articles carrying a tag. Kept out of the tags table so the
+ * counter writes that come with every article write never touch Tag rows,
+ * and never evict them from the second-level cache.
+ */
+@Entity
+@Table(name = "tag_usage_counts", indexes = {
+    @Index(name = "idx_tag_usage_counts_usage_count_tag_id", columnList = "usage_count, tag_id")
+})
+public class TagUsage {
+    
+    public static final String TABLE = "tag_usage_counts";
+    
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+    
+    @Column(name = "usage_count", nullable = false)
+    private Long usageCount;
+    
+    // Constructors
+    public TagUsage() {
+    }
+    
+    // Getters and Setters
+    public Long getTagId() {
+        return tagId;
+    }
+    
+    public void setTagId(Long tagId) {
+        this.tagId = tagId;
+    }
+    
+    public Long getUsageCount() {
+        return usageCount;
+    }
+    
+    public void setUsageCount(Long usageCount) {
+        this.usageCount = usageCount;
+    }
+}
\ No newline at end of file
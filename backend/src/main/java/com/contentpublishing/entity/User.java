@@ -1,5 +1,6 @@
 package com.contentpublishing.entity;
 
+import com.contentpublishing.cache.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
@@ -7,6 +8,9 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,11 +22,16 @@ import java.util.List;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "articles", "schedules"})
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
+@BatchSize(size = 50)
 @Table(name = "users")
 public class User implements UserDetails {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_ids")
+    @TableGenerator(name = "user_ids", table = "id_generators", pkColumnName = "entity_name",
+                    valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Username is required")
@@ -74,10 +83,12 @@ public class User implements UserDetails {
     // Relationships
     @JsonIgnore
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<Article> articles = new ArrayList<>();
     
     @JsonIgnore
     @OneToMany(mappedBy = "createdBy", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<PublishSchedule> schedules = new ArrayList<>();
     
     public enum Role {
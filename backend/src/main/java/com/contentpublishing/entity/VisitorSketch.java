@@ -0,0 +1,115 @@
+package com.contentpublishing.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Serialized HyperLogLog sketch of the distinct visitors an article, or the
+ * articles carrying a tag, had on one day. Sketches of several days merge
+ * into the unique visitors over the whole range.
+ */
+@Entity
+@IdClass(VisitorSketch.Key.class)
+@Table(name = "visitor_sketches", indexes = {
+    @Index(name = "idx_visitor_sketches_bucket_day", columnList = "bucket_day")
+})
+public class VisitorSketch {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Scope scope;
+    
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+    
+    @Id
+    @Column(name = "bucket_day")
+    private LocalDate day;
+    
+    @Column(nullable = false, length = 8192)
+    private byte[] sketch;
+    
+    public enum Scope {
+        ARTICLE, TAG
+    }
+    
+    public static class Key implements Serializable {
+        
+        private Scope scope;
+        private Long scopeId;
+        private LocalDate day;
+        
+        public Key() {
+        }
+        
+        public Key(Scope scope, Long scopeId, LocalDate day) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+            this.day = day;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return scope == key.scope && Objects.equals(scopeId, key.scopeId) && Objects.equals(day, key.day);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, scopeId, day);
+        }
+    }
+    
+    // Constructors
+    public VisitorSketch() {
+    }
+    
+    public VisitorSketch(Scope scope, Long scopeId, LocalDate day) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.day = day;
+    }
+    
+    // Getters and Setters
+    public Scope getScope() {
+        return scope;
+    }
+    
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+    
+    public Long getScopeId() {
+        return scopeId;
+    }
+    
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+    
+    public LocalDate getDay() {
+        return day;
+    }
+    
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+    
+    public byte[] getSketch() {
+        return sketch;
+    }
+    
+    public void setSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.contentpublishing.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published whenever articles are modified so that in-memory views of them
+ * (caches, indexes, feeds) can be refreshed. Listeners that read the database
+ * should run after the surrounding transaction commits.
+ */
+public class ArticleChangedEvent extends ApplicationEvent {
+    
+    public enum Type {
+        CREATED, UPDATED, PUBLISHED, DELETED
+    }
+    
+    private final Type type;
+    private final List<Long> articleIds;
+    
+    public ArticleChangedEvent(Object source, Type type, Long articleId) {
+        this(source, type, List.of(articleId));
+    }
+    
+    public ArticleChangedEvent(Object source, Type type, Collection<Long> articleIds) {
+        super(source);
+        this.type = type;
+        this.articleIds = List.copyOf(articleIds);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public List<Long> getArticleIds() {
+        return articleIds;
+    }
+}
\ No newline at end of file
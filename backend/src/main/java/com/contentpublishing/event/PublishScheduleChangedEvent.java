@@ -0,0 +1,42 @@
+package com.contentpublishing.event;
+
+import com.contentpublishing.entity.PublishSchedule;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a publish schedule is created, rescheduled or leaves the
+ * PENDING state, so the in-memory scheduler can follow the change once the
+ * surrounding transaction commits.
+ */
+public class PublishScheduleChangedEvent extends ApplicationEvent {
+    
+    private final Long scheduleId;
+    private final PublishSchedule.Status status;
+    private final LocalDateTime scheduledAt;
+    
+    public PublishScheduleChangedEvent(Object source, PublishSchedule schedule) {
+        this(source, schedule.getId(), schedule.getStatus(), schedule.getScheduledAt());
+    }
+    
+    public PublishScheduleChangedEvent(Object source, Long scheduleId, PublishSchedule.Status status,
+                                       LocalDateTime scheduledAt) {
+        super(source);
+        this.scheduleId = scheduleId;
+        this.status = status;
+        this.scheduledAt = scheduledAt;
+    }
+    
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+    
+    public PublishSchedule.Status getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.contentpublishing.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever a tag is renamed or otherwise edited, so that cached
+ * articles carrying it can be dropped once the surrounding transaction commits.
+ */
+public class TagChangedEvent extends ApplicationEvent {
+    
+    private final Long tagId;
+    
+    public TagChangedEvent(Object source, Long tagId) {
+        super(source);
+        this.tagId = tagId;
+    }
+    
+    public Long getTagId() {
+        return tagId;
+    }
+}
\ No newline at end of file
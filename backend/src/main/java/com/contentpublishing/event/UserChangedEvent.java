@@ -0,0 +1,21 @@
+package com.contentpublishing.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever a user row is changed, so that cached principals can be
+ * dropped once the surrounding transaction commits.
+ */
+public class UserChangedEvent extends ApplicationEvent {
+    
+    private final String username;
+    
+    public UserChangedEvent(Object source, String username) {
+        super(source);
+        this.username = username;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+}
\ No newline at end of file
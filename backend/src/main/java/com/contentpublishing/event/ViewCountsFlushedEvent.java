@@ -0,0 +1,24 @@
+package com.contentpublishing.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Map;
+
+/**
+ * Published after buffered article views have been written to the database,
+ * with the number of views each article gained in that flush. Listeners see
+ * every view exactly once, however many reads it took to accumulate.
+ */
+public class ViewCountsFlushedEvent extends ApplicationEvent {
+    
+    private final Map<Long, Long> views;
+    
+    public ViewCountsFlushedEvent(Object source, Map<Long, Long> views) {
+        super(source);
+        this.views = Map.copyOf(views);
+    }
+    
+    public Map<Long, Long> getViews() {
+        return views;
+    }
+}
\ No newline at end of file
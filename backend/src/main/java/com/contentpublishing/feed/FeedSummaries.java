@@ -0,0 +1,28 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.ArticleSpecifications;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+final class FeedSummaries {
+    
+    private FeedSummaries() {
+    }
+    
+    // Loads the summaries of the given articles in one query, keeping the feed's order
+    static List<ArticleSummary> load(ArticleRepository articleRepository, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleSummary> byId = new HashMap<>();
+        articleRepository.findSummaries(ArticleSpecifications.idIn(ids), Sort.unsorted(), ids.size())
+            .forEach(summary -> byId.put(summary.getId(), summary));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The most viewed published articles, kept in memory so the homepage feed
+ * never sorts the articles table.
+ *
+ * A min-heap holds a pool of candidates somewhat larger than the feed, keyed
+ * by view count. Flushed view counts and article changes offer the affected
+ * articles to the heap; an article that outranks the weakest candidate
+ * replaces it. The spare candidates absorb unpublished and deleted articles,
+ * and the pool is reloaded from the database only once it shrinks below the
+ * feed size. A periodic rebuild picks up views flushed by other nodes.
+ */
+@Component
+public class MostViewedArticles {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MostViewedArticles.class);
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    
+    private static final Comparator<Candidate> BY_VIEWS =
+        Comparator.comparingLong(Candidate::views).thenComparingLong(Candidate::id);
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Value("${app.feeds.most-viewed.size:5}")
+    private int size;
+    
+    @Value("${app.feeds.most-viewed.candidates:50}")
+    private int candidateCount;
+    
+    private record Candidate(long id, long views) {
+    }
+    
+    // Weakest candidate first; guarded by this
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(BY_VIEWS);
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    private boolean complete;
+    private List<Long> topIds = List.of();
+    
+    private volatile List<ArticleSummary> articles = List.of();
+    private volatile boolean ready;
+    private long rebuilds;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+    
+    /**
+     * Reloads the candidate pool from the database.
+     */
+    @Scheduled(fixedDelayString = "${app.feeds.rebuild-interval-ms:60000}",
+               initialDelayString = "${app.feeds.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        try {
+            int poolSize = Math.max(size, candidateCount);
+            List<Object[]> rows = articleRepository.findMostViewedIds(Article.Status.PUBLISHED,
+                PageRequest.of(0, poolSize));
+            heap.clear();
+            candidates.clear();
+            for (Object[] row : rows) {
+                add(new Candidate((Long) row[0], (Long) row[1]));
+            }
+            complete = rows.size() < poolSize;
+            rebuilds++;
+            publish(List.of(), true);
+            ready = true;
+            logger.debug("Most viewed feed rebuilt from {} candidates", rows.size());
+        } catch (Exception e) {
+            logger.error("Failed to rebuild most viewed feed", e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Returns the feed, most viewed first. View counts are as of the last
+     * flush that changed the feed.
+     */
+    public List<ArticleSummary> getArticles() {
+        return articles;
+    }
+    
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("size", articles.size());
+        stats.put("candidates", heap.size());
+        stats.put("rebuilds", rebuilds);
+        return stats;
+    }
+    
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        refresh(event.getViews().keySet());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        refresh(event.getArticleIds());
+    }
+    
+    // Re-reads the view counts of the given articles; ones no longer published drop out of the pool
+    private synchronized void refresh(Collection<Long> ids) {
+        if (!ready || ids.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> views = new HashMap<>();
+            List<Long> idList = List.copyOf(ids);
+            for (int from = 0; from < idList.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<Long> chunk = idList.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, idList.size()));
+                for (Object[] row : articleRepository.findViewCountsByIdIn(chunk, Article.Status.PUBLISHED)) {
+                    views.put((Long) row[0], (Long) row[1]);
+                }
+            }
+            for (Long id : ids) {
+                Candidate existing = candidates.remove(id);
+                if (existing != null) {
+                    heap.remove(existing);
+                }
+                Long count = views.get(id);
+                if (count != null) {
+                    offer(new Candidate(id, count));
+                }
+            }
+            
+            if (heap.size() < size && !complete) {
+                rebuild();
+                return;
+            }
+            publish(ids, false);
+        } catch (Exception e) {
+            logger.error("Failed to refresh most viewed feed", e);
+        }
+    }
+    
+    private void offer(Candidate candidate) {
+        if (heap.size() < Math.max(size, candidateCount)) {
+            add(candidate);
+            return;
+        }
+        // Whatever does not make the pool ranks below all of it, so the pool stays the true top
+        complete = false;
+        if (BY_VIEWS.compare(candidate, heap.peek()) > 0) {
+            candidates.remove(heap.poll().id());
+            add(candidate);
+        }
+    }
+    
+    private void add(Candidate candidate) {
+        heap.add(candidate);
+        candidates.put(candidate.id(), candidate);
+    }
+    
+    // Reloads the summaries only when the feed's members, order or counts may have changed
+    private void publish(Collection<Long> changed, boolean force) {
+        List<Candidate> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_VIEWS.reversed());
+        List<Long> ids = ranked.subList(0, Math.min(size, ranked.size())).stream().map(Candidate::id).toList();
+        if (!force && ids.equals(topIds) && changed.stream().noneMatch(ids::contains)) {
+            return;
+        }
+        articles = FeedSummaries.load(articleRepository, ids);
+        topIds = ids;
+    }
+}
\ No newline at end of file
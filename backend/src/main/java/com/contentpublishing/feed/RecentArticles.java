@@ -0,0 +1,213 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The most recently published articles, kept in memory so the homepage feed
+ * never sorts the articles table.
+ *
+ * Entries sit in a fixed-size ring buffer ordered by publish time. Articles
+ * are published in time order, so a newly published article is normally
+ * written over the oldest entry in constant time. Edits to an entry refresh
+ * it in place; unpublishing or deleting one leaves a gap that is filled from
+ * the database. A periodic rebuild picks up articles published on other nodes.
+ */
+@Component
+public class RecentArticles {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecentArticles.class);
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    
+    private static final Comparator<Entry> BY_PUBLISHED_AT =
+        Comparator.comparing(Entry::publishedAt).thenComparingLong(Entry::id);
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Value("${app.feeds.recent.size:10}")
+    private int size;
+    
+    private record Entry(long id, LocalDateTime publishedAt) {
+    }
+    
+    // Oldest entry at start; guarded by this
+    private Entry[] ring;
+    private int start;
+    private int count;
+    private boolean complete;
+    
+    private volatile List<ArticleSummary> articles = List.of();
+    private volatile boolean ready;
+    private long rebuilds;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+    
+    /**
+     * Reloads the feed from the database.
+     */
+    @Scheduled(fixedDelayString = "${app.feeds.rebuild-interval-ms:60000}",
+               initialDelayString = "${app.feeds.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        try {
+            List<Object[]> rows = articleRepository.findRecentlyPublishedIds(Article.Status.PUBLISHED,
+                PageRequest.of(0, size));
+            ring = new Entry[size];
+            start = 0;
+            count = 0;
+            // Rows come newest first
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                insert(entry(rows.get(i)));
+            }
+            complete = rows.size() < size;
+            rebuilds++;
+            publish();
+            ready = true;
+            logger.debug("Recent articles feed rebuilt with {} articles", count);
+        } catch (Exception e) {
+            logger.error("Failed to rebuild recent articles feed", e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Returns the feed, most recently published first.
+     */
+    public List<ArticleSummary> getArticles() {
+        return articles;
+    }
+    
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("size", count);
+        stats.put("capacity", size);
+        stats.put("rebuilds", rebuilds);
+        return stats;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        try {
+            Map<Long, Entry> published = new HashMap<>();
+            if (event.getType() != ArticleChangedEvent.Type.DELETED) {
+                List<Long> ids = event.getArticleIds();
+                for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()));
+                    for (Object[] row : articleRepository.findPublishedAtByIdIn(chunk, Article.Status.PUBLISHED)) {
+                        Entry entry = entry(row);
+                        published.put(entry.id(), entry);
+                    }
+                }
+            }
+            
+            Set<Long> changed = new HashSet<>(event.getArticleIds());
+            boolean modified = removeAll(changed);
+            List<Entry> arrivals = new ArrayList<>(published.values());
+            arrivals.sort(BY_PUBLISHED_AT);
+            for (Entry entry : arrivals) {
+                modified |= insert(entry);
+            }
+            
+            if (count < size && !complete) {
+                rebuild();
+            } else if (modified) {
+                publish();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to update recent articles feed", e);
+        }
+    }
+    
+    // Returns whether the entry made it into the feed
+    private boolean insert(Entry entry) {
+        if (count == size) {
+            if (BY_PUBLISHED_AT.compare(entry, at(0)) <= 0) {
+                complete = false;
+                return false;
+            }
+            // Overwrite the oldest entry
+            start = (start + 1) % size;
+            count--;
+            complete = false;
+        }
+        // Walk back from the newest entry; an in-order arrival stops immediately
+        int position = count;
+        while (position > 0 && BY_PUBLISHED_AT.compare(at(position - 1), entry) > 0) {
+            ring[index(position)] = at(position - 1);
+            position--;
+        }
+        ring[index(position)] = entry;
+        count++;
+        return true;
+    }
+    
+    private boolean removeAll(Set<Long> ids) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            Entry entry = at(i);
+            if (!ids.contains(entry.id())) {
+                ring[index(kept++)] = entry;
+            }
+        }
+        boolean removed = kept < count;
+        for (int i = kept; i < count; i++) {
+            ring[index(i)] = null;
+        }
+        count = kept;
+        return removed;
+    }
+    
+    private Entry at(int position) {
+        return ring[index(position)];
+    }
+    
+    private int index(int position) {
+        return (start + position) % size;
+    }
+    
+    private void publish() {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            ids.add(at(i).id());
+        }
+        articles = FeedSummaries.load(articleRepository, ids);
+    }
+    
+    private static Entry entry(Object[] row) {
+        LocalDateTime publishedAt = (LocalDateTime) row[1];
+        return new Entry((Long) row[0], publishedAt != null ? publishedAt : LocalDateTime.MIN);
+    }
+}
\ No newline at end of file
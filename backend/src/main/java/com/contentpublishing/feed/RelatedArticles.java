@@ -0,0 +1,443 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.cache.BoundedCache;
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.event.TagChangedEvent;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.ArticleSpecifications;
+import com.contentpublishing.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Published articles related to a given one by the tags they share.
+ *
+ * Every published article's tags are kept in memory together with the
+ * inverse map from each tag to its articles, so the articles that co-occur
+ * with one on any tag are found without a join. Similarity is the weighted
+ * Jaccard index of the two tag sets: the weight of the shared tags over the
+ * weight of all their tags, where a tag weighs more the fewer articles carry
+ * it, so sharing a niche tag counts for more than sharing a common one.
+ *
+ * Candidates are collected from the rarest tag first and capped, so articles
+ * with very common tags are still ranked in bounded time. The summary of every
+ * indexed article is kept next to its tags, so a lookup never reads the
+ * database. Ranked lists are cached; a change to an article drops the cached
+ * lists of every article it shares a tag with, before or after the change.
+ * Lists are ranked and cached under the index's read lock, so a change can
+ * never land between the two. The index is built once the application is
+ * ready and kept current from {@link ArticleChangedEvent}s,
+ * {@link TagChangedEvent}s and flushed view counts. Those only fire on the
+ * node that made the change, so a periodic reconcile reloads the articles and
+ * tags updated since the last sweep and drops articles no longer published.
+ */
+@Component
+public class RelatedArticles {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RelatedArticles.class);
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    
+    // Sweeps reach back this far past the previous one, for clock skew between nodes and commits in flight
+    private static final Duration RECONCILE_OVERLAP = Duration.ofMinutes(1);
+    
+    private static final Comparator<Candidate> BY_SIMILARITY =
+        Comparator.comparingDouble(Candidate::similarity).thenComparingLong(Candidate::id);
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private TagRepository tagRepository;
+    
+    @Value("${app.articles.related.size:5}")
+    private int size;
+    
+    @Value("${app.articles.related.max-candidates:5000}")
+    private int maxCandidates;
+    
+    @Value("${app.articles.related.cache-size:10000}")
+    private int cacheSize;
+    
+    @Value("${app.articles.related.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+    
+    @Value("${app.articles.related.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+    
+    private record Candidate(long id, double similarity) {
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Sorted tag ids of each published article with at least one tag
+    private final Map<Long, long[]> articleTags = new HashMap<>();
+    private final Map<Long, Set<Long>> tagArticles = new HashMap<>();
+    private final Map<Long, ArticleSummary> summaries = new HashMap<>();
+    
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private volatile LocalDateTime sweptSince;
+    private long reconciles;
+    
+    private BoundedCache<Long, List<ArticleSummary>> cache;
+    
+    @PostConstruct
+    public void init() {
+        cache = new BoundedCache<>("relatedArticles", cacheSize, Duration.ofSeconds(cacheTtlSeconds));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread builder = new Thread(this::rebuild, "related-articles-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+    
+    /**
+     * Reloads the summary and tags of every published article, in id order in fixed-size batches.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            long indexed = 0;
+            Long lastId = 0L;
+            while (true) {
+                List<Long> ids = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, lastId,
+                    PageRequest.of(0, rebuildBatchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                reindex(ids);
+                indexed += ids.size();
+                lastId = ids.get(ids.size() - 1);
+            }
+            rebuilding = false;
+            
+            // Articles written while their batch was being read may have been indexed stale
+            reindex(List.copyOf(changedDuringRebuild));
+            sweptSince = startedAt.minus(RECONCILE_OVERLAP);
+            ready = true;
+            logger.info("Related articles index built: {} articles, {} tags in {} ms",
+                       indexed, getTagCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            rebuilding = false;
+            logger.error("Failed to build related articles index", e);
+        }
+    }
+    
+    /**
+     * Picks up changes made on other nodes: reloads the articles updated
+     * since the last sweep and the articles of tags renamed since, and drops
+     * indexed articles that are no longer published. A failed build is
+     * retried instead.
+     */
+    @Scheduled(fixedDelayString = "${app.articles.related.reconcile-interval-ms:60000}",
+               initialDelayString = "${app.articles.related.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        if (rebuilding) {
+            return;
+        }
+        if (!ready) {
+            rebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            Set<Long> changed = new LinkedHashSet<>(articleRepository.findIdsUpdatedSince(sweptSince));
+            List<Long> renamedTags = tagRepository.findIdsUpdatedSince(sweptSince);
+            lock.readLock().lock();
+            try {
+                renamedTags.forEach(tagId -> changed.addAll(tagArticles.getOrDefault(tagId, Set.of())));
+            } finally {
+                lock.readLock().unlock();
+            }
+            changed.addAll(findUnpublished());
+            reindex(List.copyOf(changed));
+            sweptSince = startedAt.minus(RECONCILE_OVERLAP);
+            reconciles++;
+            logger.debug("Related articles index reconciled: {} articles reloaded", changed.size());
+        } catch (Exception e) {
+            logger.error("Failed to reconcile related articles index", e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Returns the articles most similar to the given one, best match first.
+     * Articles that are not published or have no tags have none.
+     */
+    public List<ArticleSummary> getRelated(Long articleId) {
+        List<ArticleSummary> cached = cache.get(articleId);
+        if (cached != null) {
+            return cached;
+        }
+        lock.readLock().lock();
+        try {
+            List<ArticleSummary> related = rank(articleId).stream().map(summaries::get).toList();
+            // Nothing is cached while the index is still being built
+            if (ready) {
+                cache.put(articleId, related);
+            }
+            return related;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        lock.readLock().lock();
+        try {
+            stats.put("articles", articleTags.size());
+            stats.put("tags", tagArticles.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("cache", cache.getStats());
+        synchronized (this) {
+            stats.put("reconciles", reconciles);
+        }
+        return stats;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.getArticleIds());
+        }
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            update(Map.of(), event.getArticleIds());
+        } else {
+            reindex(event.getArticleIds());
+        }
+    }
+    
+    // A renamed tag is carried in the summaries of its articles
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            ids = List.copyOf(tagArticles.getOrDefault(event.getTagId(), Set.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(ids);
+        }
+        reindex(ids);
+    }
+    
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getViews().forEach((id, views) -> {
+                // Replaced rather than changed, since cached lists being serialized may share the summary
+                summaries.computeIfPresent(id, (key, summary) -> summary.withViewCount(summary.getViewCount() + views));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Loads the summaries and tags of the changed articles in as few queries as possible
+    private void reindex(List<Long> ids) {
+        Map<Long, ArticleSummary> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()));
+            articleRepository.findSummaries(
+                    ArticleSpecifications.withFilters(null, null, Article.Status.PUBLISHED, null)
+                        .and(ArticleSpecifications.idIn(chunk)),
+                    Sort.unsorted(), chunk.size())
+                .forEach(summary -> loaded.put(summary.getId(), summary));
+        }
+        update(loaded, ids);
+    }
+    
+    // Indexed ids no longer published, found by walking the published ids in step with a snapshot of the index
+    private List<Long> findUnpublished() {
+        long[] indexed;
+        lock.readLock().lock();
+        try {
+            indexed = articleTags.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> unpublished = new ArrayList<>();
+        int next = 0;
+        Long lastId = 0L;
+        while (next < indexed.length) {
+            List<Long> batch = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, lastId,
+                PageRequest.of(0, rebuildBatchSize));
+            long upTo = batch.size() < rebuildBatchSize ? Long.MAX_VALUE : batch.get(batch.size() - 1);
+            Set<Long> published = new HashSet<>(batch);
+            for (; next < indexed.length && indexed[next] <= upTo; next++) {
+                if (!published.contains(indexed[next])) {
+                    unpublished.add(indexed[next]);
+                }
+            }
+            lastId = upTo;
+        }
+        return unpublished;
+    }
+    
+    // Replaces the given articles; ones missing from the map are dropped from the index
+    private void update(Map<Long, ArticleSummary> loaded, Collection<Long> ids) {
+        Set<Long> touchedTags = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                summaries.remove(id);
+                long[] previous = articleTags.remove(id);
+                if (previous != null) {
+                    for (long tagId : previous) {
+                        touchedTags.add(tagId);
+                        Set<Long> articles = tagArticles.get(tagId);
+                        articles.remove(id);
+                        if (articles.isEmpty()) {
+                            tagArticles.remove(tagId);
+                        }
+                    }
+                }
+                ArticleSummary summary = loaded.get(id);
+                long[] current = summary == null ? null : summary.getTags().stream()
+                    .mapToLong(Tag::getId).sorted().distinct().toArray();
+                if (current != null && current.length > 0) {
+                    articleTags.put(id, current);
+                    summaries.put(id, summary);
+                    for (long tagId : current) {
+                        touchedTags.add(tagId);
+                        tagArticles.computeIfAbsent(tagId, key -> new HashSet<>()).add(id);
+                    }
+                }
+            }
+            invalidate(ids, touchedTags);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Drops the cached lists that may include a changed article; a wide change clears them all
+    private void invalidate(Collection<Long> ids, Set<Long> touchedTags) {
+        if (!ready) {
+            return;
+        }
+        long affected = ids.size();
+        for (long tagId : touchedTags) {
+            Set<Long> articles = tagArticles.get(tagId);
+            affected += articles == null ? 0 : articles.size();
+        }
+        if (affected > cache.size()) {
+            cache.invalidateAll();
+            return;
+        }
+        ids.forEach(cache::invalidate);
+        for (long tagId : touchedTags) {
+            Set<Long> articles = tagArticles.get(tagId);
+            if (articles != null) {
+                articles.forEach(cache::invalidate);
+            }
+        }
+    }
+    
+    // Callers hold the read lock
+    private List<Long> rank(Long articleId) {
+        long[] tags = articleTags.get(articleId);
+        if (tags == null) {
+            return List.of();
+        }
+        
+        // Rarest tags first, so the candidate cap keeps the most telling matches
+        long[] byRarity = Arrays.stream(tags).boxed()
+            .sorted(Comparator.comparingInt(tagId -> tagArticles.get(tagId).size()))
+            .mapToLong(Long::longValue).toArray();
+        Map<Long, Double> shared = new HashMap<>();
+        for (long tagId : byRarity) {
+            Set<Long> articles = tagArticles.get(tagId);
+            double weight = weight(tagId);
+            if (shared.size() + articles.size() <= maxCandidates) {
+                for (Long candidate : articles) {
+                    shared.merge(candidate, weight, Double::sum);
+                }
+            } else {
+                shared.replaceAll((candidate, sum) -> articles.contains(candidate) ? sum + weight : sum);
+            }
+        }
+        shared.remove(articleId);
+        
+        double ownWeight = totalWeight(tags);
+        PriorityQueue<Candidate> top = new PriorityQueue<>(BY_SIMILARITY);
+        shared.forEach((candidate, sharedWeight) -> {
+            double union = ownWeight + totalWeight(articleTags.get(candidate)) - sharedWeight;
+            top.offer(new Candidate(candidate, sharedWeight / union));
+            if (top.size() > size) {
+                top.poll();
+            }
+        });
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(BY_SIMILARITY.reversed());
+        return ranked.stream().map(Candidate::id).toList();
+    }
+    
+    // Inverse document frequency, kept positive for tags carried by every article
+    private double weight(long tagId) {
+        return Math.log(1 + (double) articleTags.size() / tagArticles.get(tagId).size());
+    }
+    
+    private double totalWeight(long[] tags) {
+        double total = 0;
+        for (long tagId : tags) {
+            total += weight(tagId);
+        }
+        return total;
+    }
+    
+    private int getTagCount() {
+        lock.readLock().lock();
+        try {
+            return tagArticles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.ArticleTrendingScore;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.ArticleTrendingScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Published articles ranked by recent attention rather than all-time views.
+ *
+ * Every view adds one to an article's score and the score halves every
+ * half-life, so a burst of views today outranks a larger total from last
+ * month. Publishing adds a one-off boost, decayed from the publish time, so
+ * new articles get a chance before their first views arrive.
+ *
+ * Scores are stored relative to a reference time: a view at time t adds
+ * e^(λ(t - reference)). Decay then scales every score by the same factor,
+ * so it never changes the ranking and nothing has to be touched as time
+ * passes; only the articles in a flush or change event are updated. The
+ * checkpoint moves the reference to the present and drops articles whose
+ * score has decayed away. The feed itself is a precomputed list, so requests
+ * never query or sort anything.
+ *
+ * Every node sees only its own views and writes, but they all checkpoint
+ * into the same rows. So a checkpoint never overwrites a row: it decays the
+ * saved score to the present and adds what this node gained since its last
+ * checkpoint. A restart resumes with the sum over all nodes as of their last
+ * checkpoints; the restored part is never written back, so it is not counted
+ * twice.
+ */
+@Component
+public class TrendingArticles {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TrendingArticles.class);
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    
+    // Decays the saved score to this checkpoint before adding; score is assigned before checkpointed_at moves.
+    // GREATEST keeps a node whose clock lags behind from inflating the rows another node wrote. The half-life
+    // in seconds is the divisor, so the parameter is typed as a double rather than as the integer difference
+    private static final String ADD_SQL =
+        "INSERT INTO article_trending_scores (article_id, score, checkpointed_at) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "score = score * EXP(-LN(2) * GREATEST(TIMESTAMPDIFF(SECOND, checkpointed_at, VALUES(checkpointed_at)), 0) / ?) " +
+        "+ VALUES(score), " +
+        "checkpointed_at = GREATEST(checkpointed_at, VALUES(checkpointed_at))";
+    
+    private static final String DELETE_STALE_SQL =
+        "DELETE FROM article_trending_scores " +
+        "WHERE score * EXP(-LN(2) * GREATEST(TIMESTAMPDIFF(SECOND, checkpointed_at, ?), 0) / ?) < ?";
+    
+    private static final Comparator<Map.Entry<Long, Double>> BY_SCORE =
+        Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private ArticleTrendingScoreRepository scoreRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.feeds.trending.size:10}")
+    private int size;
+    
+    @Value("${app.feeds.trending.half-life-minutes:360}")
+    private double halfLifeMinutes;
+    
+    @Value("${app.feeds.trending.publish-boost:5}")
+    private double publishBoost;
+    
+    @Value("${app.feeds.trending.min-score:0.05}")
+    private double minScore;
+    
+    @Value("${app.feeds.trending.checkpoint-batch-size:500}")
+    private int checkpointBatchSize;
+    
+    // Scores relative to the reference time; written under this, read freely
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    // What this node added since its last checkpoint, on the same scale
+    private final Map<Long, Double> gained = new HashMap<>();
+    private long referenceMillis = System.currentTimeMillis();
+    private List<Long> topIds = List.of();
+    
+    private volatile List<ArticleSummary> articles = List.of();
+    private volatile boolean ready;
+    private long checkpoints;
+    
+    /**
+     * Restores the scores from the last checkpoint of every node, decayed to
+     * now. Articles unpublished since then are left out.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, Double> saved = new HashMap<>();
+            for (ArticleTrendingScore row : scoreRepository.findAll()) {
+                saved.put(row.getArticleId(), decay(row.getScore(), Duration.between(row.getCheckpointedAt(), now)));
+            }
+            Map<Long, LocalDateTime> published = findPublished(saved.keySet());
+            saved.forEach((id, score) -> {
+                if (published.containsKey(id) && score >= minScore) {
+                    scores.merge(id, score * scale(), Double::sum);
+                }
+            });
+            ready = true;
+            publish(List.of(), true);
+            logger.info("Trending feed restored with {} articles", scores.size());
+        } catch (Exception e) {
+            logger.error("Failed to restore trending scores", e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Returns the feed, highest score first.
+     */
+    public List<ArticleSummary> getArticles() {
+        return articles;
+    }
+    
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("size", articles.size());
+        stats.put("tracked", scores.size());
+        stats.put("halfLifeMinutes", halfLifeMinutes);
+        stats.put("checkpoints", checkpoints);
+        return stats;
+    }
+    
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        try {
+            // Only articles not tracked yet need checking; tracked ones leave through change events
+            List<Long> untracked = event.getViews().keySet().stream().filter(id -> !scores.containsKey(id)).toList();
+            Map<Long, LocalDateTime> published = findPublished(untracked);
+            event.getViews().forEach((id, views) -> {
+                if (scores.containsKey(id) || published.containsKey(id)) {
+                    add(id, (double) views);
+                }
+            });
+            publish(event.getViews().keySet(), false);
+        } catch (Exception e) {
+            logger.error("Failed to update trending scores", e);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            Map<Long, LocalDateTime> published = event.getType() == ArticleChangedEvent.Type.DELETED
+                ? Map.of() : findPublished(event.getArticleIds());
+            LocalDateTime now = LocalDateTime.now();
+            for (Long id : event.getArticleIds()) {
+                if (!published.containsKey(id)) {
+                    scores.remove(id);
+                    gained.remove(id);
+                } else if (!scores.containsKey(id)) {
+                    LocalDateTime publishedAt = published.get(id);
+                    double boost = decay(publishBoost, publishedAt == null ? Duration.ZERO : Duration.between(publishedAt, now));
+                    if (boost >= minScore) {
+                        add(id, boost);
+                    }
+                }
+            }
+            publish(event.getArticleIds(), false);
+        } catch (Exception e) {
+            logger.error("Failed to update trending scores", e);
+        }
+    }
+    
+    /**
+     * Rebases the scores to the present, drops the ones that have decayed
+     * below the minimum and adds what this node gained since the last
+     * checkpoint to the saved rows. Saved rows that have decayed below the
+     * minimum are deleted, whichever node wrote them.
+     */
+    @Scheduled(fixedDelayString = "${app.feeds.trending.checkpoint-interval-ms:60000}",
+               initialDelayString = "${app.feeds.trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        LocalDateTime checkpointedAt = LocalDateTime.now();
+        List<Object[]> rows;
+        synchronized (this) {
+            // A failed restore is retried rather than overwritten with a partial index
+            if (!ready) {
+                restore();
+                return;
+            }
+            long now = System.currentTimeMillis();
+            double factor = Math.exp(-lambda() * (now - referenceMillis) / 1000.0);
+            referenceMillis = now;
+            List<Long> dropped = new ArrayList<>();
+            scores.replaceAll((id, score) -> score * factor);
+            gained.replaceAll((id, score) -> score * factor);
+            scores.forEach((id, score) -> {
+                if (score < minScore) {
+                    dropped.add(id);
+                }
+            });
+            dropped.forEach(id -> {
+                scores.remove(id);
+                gained.remove(id);
+            });
+            publish(dropped, false);
+            
+            // Sorted so nodes checkpointing at the same time lock the shared rows in the same order
+            rows = new ArrayList<>(gained.size());
+            Timestamp timestamp = Timestamp.valueOf(checkpointedAt);
+            gained.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> rows.add(new Object[] {entry.getKey(), entry.getValue(), timestamp, halfLifeMinutes * 60}));
+            gained.clear();
+        }
+        
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (int from = 0; from < rows.size(); from += checkpointBatchSize) {
+                    jdbcTemplate.batchUpdate(ADD_SQL, rows.subList(from, Math.min(from + checkpointBatchSize, rows.size())));
+                }
+                jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.valueOf(checkpointedAt), halfLifeMinutes * 60, minScore);
+            });
+            synchronized (this) {
+                checkpoints++;
+            }
+            logger.debug("Checkpointed {} trending score gains", rows.size());
+        } catch (Exception e) {
+            // Carried over to the next checkpoint; the reference only moves at checkpoints, so the scale still matches
+            synchronized (this) {
+                rows.forEach(row -> gained.merge((Long) row[0], (Double) row[1], Double::sum));
+            }
+            logger.error("Failed to checkpoint trending scores", e);
+        }
+    }
+    
+    private void add(Long id, double amount) {
+        double scaled = amount * scale();
+        scores.merge(id, scaled, Double::sum);
+        gained.merge(id, scaled, Double::sum);
+    }
+    
+    // Converts a score at the present to the reference time's scale
+    private double scale() {
+        return Math.exp(lambda() * (System.currentTimeMillis() - referenceMillis) / 1000.0);
+    }
+    
+    private double decay(double score, Duration age) {
+        return score * Math.exp(-lambda() * Math.max(age.toMillis(), 0) / 1000.0);
+    }
+    
+    // Decay rate per second
+    private double lambda() {
+        return Math.log(2) / (halfLifeMinutes * 60);
+    }
+    
+    private Map<Long, LocalDateTime> findPublished(Collection<Long> ids) {
+        Map<Long, LocalDateTime> published = new HashMap<>();
+        List<Long> idList = List.copyOf(ids);
+        for (int from = 0; from < idList.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, idList.size()));
+            for (Object[] row : articleRepository.findPublishedAtByIdIn(chunk, Article.Status.PUBLISHED)) {
+                published.put((Long) row[0], (LocalDateTime) row[1]);
+            }
+        }
+        return published;
+    }
+    
+    // Reloads the summaries only when the feed's members or order may have changed
+    private void publish(Collection<Long> changed, boolean force) {
+        if (!ready) {
+            return;
+        }
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(BY_SCORE);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (top.size() < size) {
+                top.add(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (BY_SCORE.compare(entry, top.peek()) > 0) {
+                top.poll();
+                top.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(BY_SCORE.reversed());
+        List<Long> ids = ranked.stream().map(Map.Entry::getKey).toList();
+        if (!force && ids.equals(topIds) && changed.stream().noneMatch(ids::contains)) {
+            return;
+        }
+        articles = FeedSummaries.load(articleRepository, ids);
+        topIds = ids;
+    }
+}
\ No newline at end of file
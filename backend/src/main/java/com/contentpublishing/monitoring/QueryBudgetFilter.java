@@ -0,0 +1,83 @@
+package com.contentpublishing.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the statements each HTTP request runs and warns when an endpoint goes over
+ * its query budget. Endpoints are keyed by method and mapping pattern, for example
+ * {@code GET /api/articles/{id}}; anything without its own budget gets the default.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+    
+    /**
+     * Request attribute holding the statements the request ran, set once the rest of
+     * the chain has completed.
+     */
+    public static final String STATEMENTS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".STATEMENTS";
+    
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+    private final boolean logStatements;
+    
+    public QueryBudgetFilter(int defaultBudget, Map<String, Integer> budgets, boolean logStatements) {
+        this.defaultBudget = defaultBudget;
+        this.budgets = Map.copyOf(budgets);
+        this.logStatements = logStatements;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            List<String> statements = RequestQueryCounter.stop();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            check(request, statements);
+        }
+    }
+    
+    private void check(HttpServletRequest request, List<String> statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        int budget = budgets.getOrDefault(endpoint, defaultBudget);
+        
+        if (statements.size() <= budget) {
+            logger.debug("{} ran {} statements", endpoint, statements.size());
+        } else if (logStatements) {
+            logger.warn("{} ran {} statements, over its budget of {}:\n  {}",
+                       endpoint, statements.size(), budget, String.join("\n  ", statements));
+        } else {
+            logger.warn("{} ran {} statements, over its budget of {}", endpoint, statements.size(), budget);
+        }
+    }
+    
+    /**
+     * Parses budgets written as {@code METHOD /pattern=count}, separated by commas.
+     */
+    public static Map<String, Integer> parseBudgets(String spec) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                budgets.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+            }
+        }
+        return budgets;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.contentpublishing.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source in a datasource-proxy that attributes every statement to the
+ * HTTP request running on the same thread, and checks each request against its query
+ * budget. Enabled with {@code app.query-guard.enabled}, which the dev profile turns on.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-guard.enabled", havingValue = "true")
+public class QueryGuardConfig {
+    
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new RequestQueryCounter())
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+            @Value("${app.query-guard.default-budget:10}") int defaultBudget,
+            @Value("${app.query-guard.budgets:}") String budgets,
+            @Value("${app.query-guard.log-statements:false}") boolean logStatements) {
+        FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(
+            new QueryBudgetFilter(defaultBudget, QueryBudgetFilter.parseBudgets(budgets), logStatements));
+        // Ahead of the security chain so statements run while authenticating are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.contentpublishing.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL statements executed on the current thread between {@link #start()}
+ * and {@link #stop()}. Statements run on other threads, such as the scheduler or the
+ * view count flush, are not attributed to any request.
+ */
+public class RequestQueryCounter implements QueryExecutionListener {
+    
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+    
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+    
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = STATEMENTS.get();
+        if (statements == null) {
+            return;
+        }
+        // A JDBC batch is one round trip however many rows it carries
+        for (QueryInfo queryInfo : queryInfoList) {
+            statements.add(execInfo.isBatch()
+                ? queryInfo.getQuery() + " [batch of " + execInfo.getBatchSize() + "]"
+                : queryInfo.getQuery());
+        }
+    }
+}
\ No newline at end of file
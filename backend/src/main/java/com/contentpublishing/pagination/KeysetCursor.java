@@ -0,0 +1,136 @@
+package com.contentpublishing.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opaque cursors for keyset (seek) pagination.
+ *
+ * A cursor encodes the sort key values of the last row of a page, so the next
+ * page is read with {@code WHERE (sortKey, id) > (?, ?)} instead of an OFFSET
+ * and without a COUNT query. Sorts always end with the id to keep keys unique.
+ *
+ * Each key is written as its name, a type letter and its value, with the name
+ * and value prefixed by their length, so titles may contain any character.
+ */
+public final class KeysetCursor {
+    
+    private static final String ID = "id";
+    private static final char LENGTH_SEPARATOR = ':';
+    
+    private KeysetCursor() {
+    }
+    
+    /**
+     * Builds the sort for a keyset listing, rejecting properties that are not
+     * indexed together with the id.
+     */
+    public static Sort sort(String sortBy, String sortDir, Set<String> allowed) {
+        if (!allowed.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination does not support sorting by: " + sortBy);
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy);
+        return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+    }
+    
+    /**
+     * Decodes a cursor produced by {@link #next(Window)}; a blank cursor starts
+     * at the first row.
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            ParsePosition position = new ParsePosition(0);
+            while (position.getIndex() < decoded.length()) {
+                String name = readToken(decoded, position);
+                char type = decoded.charAt(position.getIndex());
+                position.setIndex(position.getIndex() + 1);
+                keys.put(name, decodeValue(type, readToken(decoded, position)));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        for (Sort.Order order : sort) {
+            if (!keys.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+    
+    /**
+     * Returns the cursor for the page after the given window, or {@code null}
+     * if it is the last one.
+     */
+    public static String next(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+            appendToken(encoded, key.getKey());
+            encoded.append(typeOf(key.getValue()));
+            appendToken(encoded, key.getValue().toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(encoded.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static <T> Slice<T> toSlice(Window<T> window, int size, Sort sort) {
+        return new SliceImpl<>(window.getContent(), PageRequest.of(0, size, sort), window.hasNext());
+    }
+    
+    private static void appendToken(StringBuilder encoded, String token) {
+        encoded.append(token.length()).append(LENGTH_SEPARATOR).append(token);
+    }
+    
+    private static String readToken(String decoded, ParsePosition position) {
+        int separator = decoded.indexOf(LENGTH_SEPARATOR, position.getIndex());
+        int start = separator + 1;
+        int end = start + Integer.parseInt(decoded.substring(position.getIndex(), separator));
+        position.setIndex(end);
+        return decoded.substring(start, end);
+    }
+    
+    private static char typeOf(Object value) {
+        if (value instanceof Long) {
+            return 'L';
+        } else if (value instanceof Integer) {
+            return 'I';
+        } else if (value instanceof LocalDateTime) {
+            return 'T';
+        } else if (value instanceof String) {
+            return 'S';
+        }
+        throw new IllegalStateException("Unsupported cursor key type: " + (value == null ? "null" : value.getClass()));
+    }
+    
+    private static Object decodeValue(char type, String value) {
+        return switch (type) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'T' -> LocalDateTime.parse(value);
+            case 'S' -> value;
+            default -> throw new IllegalArgumentException("Unknown cursor key type: " + type);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Article;
+
+import java.util.stream.Stream;
+
+/**
+ * Forward-only export of whole articles. The stream holds a database cursor
+ * open, so it must be consumed inside a transaction and closed afterwards.
+ */
+public interface ArticleExportRepository {
+    
+    Stream<Article> streamForExport(Article.Status status);
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+class ArticleExportRepositoryImpl implements ArticleExportRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.export.fetch-size:-2147483648}")
+    private int fetchSize;
+    
+    @Override
+    public Stream<Article> streamForExport(Article.Status status) {
+        // Author and tags come from the same result set; a streaming result set leaves the connection
+        // unusable for other queries until it is closed, so nothing may be loaded lazily
+        String jpql = "SELECT a FROM Article a JOIN FETCH a.author LEFT JOIN FETCH a.tags"
+            + (status != null ? " WHERE a.status = :status" : "")
+            + " ORDER BY a.id";
+        TypedQuery<Article> query = entityManager.createQuery(jpql, Article.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_CACHEABLE, false);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        
+        // A full export would otherwise fill the second-level cache with every author, evicting the hot entries.
+        // Set on the session rather than as a query hint: a hint only holds while the query executes, not while
+        // the stream is read
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        return query.getResultStream().onClose(() -> session.setCacheMode(previousCacheMode));
+    }
+}
\ No newline at end of file
@@ -1,52 +1,76 @@
 package com.contentpublishing.repository;
 
 import com.contentpublishing.entity.Article;
-import com.contentpublishing.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article>,
+                                           ArticleSummaryRepository, ArticleExportRepository {
     
+    // Single-article reads render the author and tags, so load them with the article
+    @EntityGraph("Article.withAuthorAndTags")
+    Optional<Article> findWithAuthorAndTagsById(Long id);
+    
+    @EntityGraph("Article.withAuthorAndTags")
     Optional<Article> findBySlug(String slug);
     
-    Page<Article> findByAuthor(User author, Pageable pageable);
+    List<Article> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @Query("SELECT a.id, a.author.id FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Ranking keys for the in-memory feeds, without loading the articles
+    @Query("SELECT a.id, a.viewCount FROM Article a WHERE a.status = :status ORDER BY a.viewCount DESC, a.id DESC")
+    List<Object[]> findMostViewedIds(@Param("status") Article.Status status, Pageable pageable);
+    
+    @Query("SELECT a.id, a.viewCount FROM Article a WHERE a.id IN :ids AND a.status = :status")
+    List<Object[]> findViewCountsByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Article.Status status);
+    
+    @Query("SELECT a.id, a.publishedAt FROM Article a WHERE a.status = :status ORDER BY a.publishedAt DESC, a.id DESC")
+    List<Object[]> findRecentlyPublishedIds(@Param("status") Article.Status status, Pageable pageable);
     
-    Page<Article> findByStatus(Article.Status status, Pageable pageable);
+    @Query("SELECT a.id, a.publishedAt FROM Article a WHERE a.id IN :ids AND a.status = :status")
+    List<Object[]> findPublishedAtByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Article.Status status);
     
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.publishedAt <= :now")
-    Page<Article> findPublishedArticles(@Param("status") Article.Status status, 
-                                       @Param("now") LocalDateTime now, 
-                                       Pageable pageable);
+    // Batches of ids in id order, so in-memory indexes can find the articles deleted on other nodes
+    @Query("SELECT a.id FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
     
-    @Query("SELECT a FROM Article a WHERE " +
-           "(:title IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
-           "(:content IS NULL OR LOWER(a.content) LIKE LOWER(CONCAT('%', :content, '%'))) AND " +
-           "(:status IS NULL OR a.status = :status) AND " +
-           "(:authorId IS NULL OR a.author.id = :authorId)")
-    Page<Article> findArticlesWithFilters(@Param("title") String title,
-                                         @Param("content") String content,
-                                         @Param("status") Article.Status status,
-                                         @Param("authorId") Long authorId,
-                                         Pageable pageable);
+    // Articles written since the last sweep of an in-memory index, on this node or any other
+    @Query("SELECT a.id FROM Article a WHERE a.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
     
-    @Query("SELECT a FROM Article a JOIN a.tags t WHERE t.id = :tagId")
-    Page<Article> findByTagId(@Param("tagId") Long tagId, Pageable pageable);
+    // Batches of published ids for the related articles index to load in id order
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsByStatusAfter(@Param("status") Article.Status status, @Param("afterId") Long afterId,
+                                    Pageable pageable);
     
-    @Query("SELECT a FROM Article a WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(a.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(a.summary) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Article> searchArticles(@Param("keyword") String keyword, Pageable pageable);
+    // Bulk status transitions mirror Article.publish(), unpublish() and archive(); they bypass the entity
+    // lifecycle callbacks, so updatedAt is set explicitly
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = com.contentpublishing.entity.Article$Status.PUBLISHED, " +
+           "a.publishedAt = :now, a.updatedAt = :now WHERE a.id IN :ids")
+    int publishAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
     
-    List<Article> findTop5ByOrderByViewCountDesc();
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = com.contentpublishing.entity.Article$Status.DRAFT, " +
+           "a.publishedAt = NULL, a.updatedAt = :now WHERE a.id IN :ids")
+    int unpublishAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
     
-    List<Article> findTop10ByStatusOrderByCreatedAtDesc(Article.Status status);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = com.contentpublishing.entity.Article$Status.ARCHIVED, " +
+           "a.updatedAt = :now WHERE a.id IN :ids")
+    int archiveAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
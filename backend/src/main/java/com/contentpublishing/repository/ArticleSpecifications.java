@@ -0,0 +1,69 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the filtered {@link ArticleRepository} queries, used
+ * where the query has to be combined with keyset scrolling.
+ */
+public final class ArticleSpecifications {
+    
+    private ArticleSpecifications() {
+    }
+    
+    public static Specification<Article> withFilters(String title, String content,
+                                                     Article.Status status, Long authorId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (title != null) {
+                predicates.add(cb.like(cb.lower(root.get("title")), "%" + title.toLowerCase() + "%"));
+            }
+            if (content != null) {
+                predicates.add(cb.like(cb.lower(root.get("content")), "%" + content.toLowerCase() + "%"));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (authorId != null) {
+                predicates.add(cb.equal(root.get("author").get("id"), authorId));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+    
+    public static Specification<Article> publishedBefore(LocalDateTime now) {
+        return (root, query, cb) -> cb.and(
+            cb.equal(root.get("status"), Article.Status.PUBLISHED),
+            cb.lessThanOrEqualTo(root.get("publishedAt"), now));
+    }
+    
+    public static Specification<Article> keywordMatches(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            return cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("content")), pattern),
+                cb.like(cb.lower(root.get("summary")), pattern));
+        };
+    }
+    
+    public static Specification<Article> taggedWith(Long tagId) {
+        return (root, query, cb) -> {
+            Join<Article, Tag> tags = root.join("tags");
+            return cb.equal(tags.get("id"), tagId);
+        };
+    }
+    
+    public static Specification<Article> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+}
\ No newline at end of file
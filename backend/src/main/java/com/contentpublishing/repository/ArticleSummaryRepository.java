@@ -0,0 +1,27 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Listing queries that project articles to {@link ArticleSummary} without
+ * selecting the content column. The author is joined into the same query and
+ * the tags of a whole page are loaded with one additional query.
+ */
+public interface ArticleSummaryRepository {
+    
+    Page<ArticleSummary> findSummaries(Specification<Article> spec, Pageable pageable);
+    
+    List<ArticleSummary> findSummaries(Specification<Article> spec, Sort sort, int limit);
+    
+    Window<ArticleSummary> scrollSummaries(Specification<Article> spec, Sort sort, int limit,
+                                           KeysetScrollPosition position);
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class ArticleSummaryRepositoryImpl implements ArticleSummaryRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<ArticleSummary> findSummaries(Specification<Article> spec, Pageable pageable) {
+        TypedQuery<ArticleSummary> query = summaryQuery(spec, pageable.getSort(), null);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<ArticleSummary> content = withTags(query.getResultList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+    
+    @Override
+    public List<ArticleSummary> findSummaries(Specification<Article> spec, Sort sort, int limit) {
+        return withTags(summaryQuery(spec, sort, null).setMaxResults(limit).getResultList());
+    }
+    
+    @Override
+    public Window<ArticleSummary> scrollSummaries(Specification<Article> spec, Sort sort, int limit,
+                                                  KeysetScrollPosition position) {
+        // Read one row more than requested to learn whether there is a next window
+        List<ArticleSummary> rows = summaryQuery(spec, sort, position).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<ArticleSummary> content = withTags(hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows);
+        return Window.from(content, index -> ScrollPosition.forward(keysOf(content.get(index), sort)), hasNext);
+    }
+    
+    private TypedQuery<ArticleSummary> summaryQuery(Specification<Article> spec, Sort sort,
+                                                    KeysetScrollPosition position) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArticleSummary> query = cb.createQuery(ArticleSummary.class);
+        Root<Article> root = query.from(Article.class);
+        Join<Article, User> author = root.join("author");
+        
+        query.select(cb.construct(ArticleSummary.class,
+            root.get("id"), root.get("title"), root.get("slug"), root.get("summary"), root.get("status"),
+            root.get("featuredImageUrl"), root.get("viewCount"), root.get("createdAt"), root.get("updatedAt"),
+            root.get("publishedAt"), author.get("id"), author.get("username"), author.get("firstName"),
+            author.get("lastName")));
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (position != null && !position.isInitial()) {
+            predicates.add(keysetPredicate(root, cb, sort, position.getKeys()));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+    
+    // (k1, k2, ...) > (v1, v2, ...) expanded to k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(Root<Article> root, CriteriaBuilder cb, Sort sort, Map<String, Object> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression path = root.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            Predicate beyond = order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(beyond);
+            alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            equalPrefix.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+    
+    private Map<String, Object> keysOf(ArticleSummary summary, Sort sort) {
+        BeanWrapper wrapper = new BeanWrapperImpl(summary);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+        }
+        return keys;
+    }
+    
+    private long count(Specification<Article> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(cb.count(root));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    // Loads the tags of all summaries with a single query
+    private List<ArticleSummary> withTags(List<ArticleSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, ArticleSummary> byId = new HashMap<>();
+        for (ArticleSummary summary : summaries) {
+            byId.put(summary.getId(), summary);
+        }
+        List<Object[]> rows = entityManager
+            .createQuery("SELECT a.id, t FROM Article a JOIN a.tags t WHERE a.id IN :ids", Object[].class)
+            .setParameter("ids", byId.keySet())
+            .getResultList();
+        for (Object[] row : rows) {
+            byId.get((Long) row[0]).getTags().add((Tag) row[1]);
+        }
+        return summaries;
+    }
+}
\ No newline at end of file
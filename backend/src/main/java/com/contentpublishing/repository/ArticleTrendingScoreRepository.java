@@ -0,0 +1,9 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.ArticleTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArticleTrendingScoreRepository extends JpaRepository<ArticleTrendingScore, Long> {
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.ArticleViewBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArticleViewBucketRepository extends JpaRepository<ArticleViewBucket, ArticleViewBucket.Key> {
+    
+    @Query("SELECT b FROM ArticleViewBucket b WHERE b.articleId = :articleId AND b.resolution = :resolution " +
+           "AND b.bucketStart >= :from AND b.bucketStart < :to ORDER BY b.bucketStart")
+    List<ArticleViewBucket> findSeries(@Param("articleId") Long articleId,
+                                       @Param("resolution") ArticleViewBucket.Resolution resolution,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.contentpublishing.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the table-backed id generators past the ids already in use before
+ * anything is inserted. Needed once when switching existing databases from
+ * AUTO_INCREMENT ids, and harmless afterwards since generators only ever move
+ * forward.
+ */
+@Component
+public class IdGeneratorSeeder {
+    
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+    
+    // Must match the allocationSize of the entities' @TableGenerator
+    private static final int ALLOCATION_SIZE = 50;
+    
+    private static final List<String> TABLES = List.of("articles", "tags", "publish_schedules", "users");
+    
+    private static final String SEED_SQL =
+        "INSERT INTO id_generators (entity_name, next_val) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))";
+    
+    // Injected so the schema, including id_generators, exists before seeding
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void seed() {
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            jdbcTemplate.update(SEED_SQL, table, maxId + ALLOCATION_SIZE + 1);
+            logger.debug("Id generator for {} seeded past id {}", table, maxId);
+        }
+    }
+}
\ No newline at end of file
@@ -3,18 +3,23 @@ package com.contentpublishing.repository;
 import com.contentpublishing.entity.Article;
 import com.contentpublishing.entity.PublishSchedule;
 import com.contentpublishing.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PublishScheduleRepository extends JpaRepository<PublishSchedule, Long> {
+public interface PublishScheduleRepository extends JpaRepository<PublishSchedule, Long>, JpaSpecificationExecutor<PublishSchedule> {
     
     Page<PublishSchedule> findByCreatedBy(User createdBy, Pageable pageable);
     
@@ -43,4 +48,19 @@ public interface PublishScheduleRepository extends JpaRepository<PublishSchedule
     List<PublishSchedule> findFailedSchedulesForRetry();
     
     List<PublishSchedule> findByArticleAndStatus(Article article, PublishSchedule.Status status);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ps FROM PublishSchedule ps WHERE ps.id = :id")
+    Optional<PublishSchedule> findByIdForUpdate(@Param("id") Long id);
+    
+    // Rows locked by a concurrent claim are skipped instead of waited on
+    @Query(value = "SELECT id FROM publish_schedules " +
+                   "WHERE status = 'PENDING' AND scheduled_at <= :now " +
+                   "AND (lease_expires_at IS NULL OR lease_expires_at < :now) " +
+                   "ORDER BY scheduled_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE PublishSchedule ps SET ps.leaseOwner = :owner, ps.leaseExpiresAt = :expiresAt WHERE ps.id IN :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
 } 
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.PublishSchedule;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the filtered {@link PublishScheduleRepository}
+ * queries, used where the query has to be combined with keyset scrolling.
+ */
+public final class PublishScheduleSpecifications {
+    
+    private PublishScheduleSpecifications() {
+    }
+    
+    public static Specification<PublishSchedule> withFilters(PublishSchedule.Status status, Long articleId,
+                                                             Long createdById, LocalDateTime fromDate,
+                                                             LocalDateTime toDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (articleId != null) {
+                predicates.add(cb.equal(root.get("article").get("id"), articleId));
+            }
+            if (createdById != null) {
+                predicates.add(cb.equal(root.get("createdBy").get("id"), createdById));
+            }
+            if (fromDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("scheduledAt"), fromDate));
+            }
+            if (toDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("scheduledAt"), toDate));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
\ No newline at end of file
@@ -1,23 +1,35 @@
 package com.contentpublishing.repository;
 
 import com.contentpublishing.entity.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, JpaSpecificationExecutor<Tag> {
     
     Optional<Tag> findByName(String name);
     
     Boolean existsByName(String name);
     
+    List<Tag> findByNameIn(Collection<String> names);
+    
+    // A locking read sees rows committed after the transaction's snapshot was taken
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findByNameInForShare(@Param("names") Collection<String> names);
+    
     @Query("SELECT t FROM Tag t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Tag> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
     
@@ -28,9 +40,15 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
                                  @Param("description") String description,
                                  Pageable pageable);
     
-    @Query("SELECT t FROM Tag t ORDER BY SIZE(t.articles) DESC")
+    // Both keys descending, so MySQL reads the counters' (usage_count, tag_id) index backwards instead of sorting
+    @Query("SELECT t FROM TagUsage u JOIN Tag t ON t.id = u.tagId WHERE u.usageCount > 0 " +
+           "ORDER BY u.usageCount DESC, u.tagId DESC")
     List<Tag> findMostUsedTags(Pageable pageable);
     
+    // Tags renamed since the last sweep of the related articles index, on this node or any other
+    @Query("SELECT t.id FROM Tag t WHERE t.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+    
     @Query("SELECT COUNT(a) FROM Tag t JOIN t.articles a WHERE t.id = :tagId")
     Long countArticlesByTagId(@Param("tagId") Long tagId);
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Tag;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the filtered {@link TagRepository} queries, used
+ * where the query has to be combined with keyset scrolling.
+ */
+public final class TagSpecifications {
+    
+    private TagSpecifications() {
+    }
+    
+    public static Specification<Tag> withFilters(String name, String description) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (name != null) {
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+            }
+            if (description != null) {
+                predicates.add(cb.like(cb.lower(root.get("description")), "%" + description.toLowerCase() + "%"));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
\ No newline at end of file
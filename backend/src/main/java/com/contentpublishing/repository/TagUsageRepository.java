@@ -0,0 +1,47 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.TagUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Counter writes are native and declare tag_usage_counts as their only query
+ * space. Without that, Hibernate treats a native update as touching every
+ * table and clears the whole second-level cache.
+ */
+@Repository
+public interface TagUsageRepository extends JpaRepository<TagUsage, Long> {
+    
+    @Query("SELECT u.usageCount FROM TagUsage u WHERE u.tagId = :tagId")
+    Optional<Long> findUsageCountByTagId(@Param("tagId") Long tagId);
+    
+    // Relative upsert, so concurrent writes never lose an increment and a tag's first use creates its row
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TagUsage.TABLE))
+    @Query(value = "INSERT INTO tag_usage_counts (tag_id, usage_count) " +
+                   "SELECT id, :delta FROM tags WHERE id IN (:tagIds) " +
+                   "ON DUPLICATE KEY UPDATE usage_count = usage_count + :delta", nativeQuery = true)
+    int adjustUsageCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TagUsage.TABLE))
+    @Query(value = "INSERT INTO tag_usage_counts (tag_id, usage_count) " +
+                   "SELECT tags.id, COUNT(article_tags.tag_id) FROM tags " +
+                   "LEFT JOIN article_tags ON article_tags.tag_id = tags.id GROUP BY tags.id " +
+                   "ON DUPLICATE KEY UPDATE usage_count = VALUES(usage_count)", nativeQuery = true)
+    int recountUsage();
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TagUsage.TABLE))
+    @Query(value = "DELETE FROM tag_usage_counts WHERE tag_id = :tagId", nativeQuery = true)
+    int deleteByTagId(@Param("tagId") Long tagId);
+}
\ No newline at end of file
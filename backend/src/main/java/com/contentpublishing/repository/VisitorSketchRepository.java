@@ -0,0 +1,35 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.VisitorSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VisitorSketchRepository extends JpaRepository<VisitorSketch, VisitorSketch.Key> {
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM VisitorSketch s WHERE s.scope = :scope AND s.day = :day AND s.scopeId IN :scopeIds")
+    List<VisitorSketch> findForUpdate(@Param("scope") VisitorSketch.Scope scope,
+                                      @Param("day") LocalDate day,
+                                      @Param("scopeIds") Collection<Long> scopeIds);
+    
+    @Query("SELECT s FROM VisitorSketch s WHERE s.scope = :scope AND s.scopeId = :scopeId " +
+           "AND s.day >= :from AND s.day <= :to")
+    List<VisitorSketch> findRange(@Param("scope") VisitorSketch.Scope scope,
+                                  @Param("scopeId") Long scopeId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+    
+    @Modifying
+    @Query("DELETE FROM VisitorSketch s WHERE s.day < :before")
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
\ No newline at end of file
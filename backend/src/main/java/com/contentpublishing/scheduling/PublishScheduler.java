@@ -0,0 +1,237 @@
+package com.contentpublishing.scheduling;
+
+import com.contentpublishing.entity.PublishSchedule;
+import com.contentpublishing.event.PublishScheduleChangedEvent;
+import com.contentpublishing.repository.PublishScheduleRepository;
+import com.contentpublishing.service.PublishScheduleService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fires pending publish schedules close to their scheduled time.
+ *
+ * Schedules due within the lookahead window are kept in a {@link TimingWheel}
+ * that is advanced every tick. When a schedule falls due, a single worker
+ * thread claims due schedules from the database in bounded batches and
+ * executes them through {@link PublishScheduleService}. Claims lease rows to
+ * this node with SKIP LOCKED, so several instances can run side by side
+ * without executing the same schedule twice.
+ *
+ * Changes made through the API update the wheel as they commit, and a
+ * periodic sweep of the database picks up schedules entering the window and
+ * anything the wheel missed, such as schedules created on another node or
+ * ones that fell due while the application was down.
+ */
+@Component
+public class PublishScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PublishScheduler.class);
+    
+    @Autowired
+    private PublishScheduleRepository scheduleRepository;
+    
+    @Autowired
+    private PublishScheduleService scheduleService;
+    
+    @Value("${app.schedules.tick-ms:500}")
+    private long tickMillis;
+    
+    @Value("${app.schedules.wheel-size:512}")
+    private int wheelSize;
+    
+    @Value("${app.schedules.lookahead-minutes:60}")
+    private long lookaheadMinutes;
+    
+    @Value("${app.schedules.claim-batch-size:50}")
+    private int claimBatchSize;
+    
+    @Value("${app.schedules.lease-seconds:60}")
+    private long leaseSeconds;
+    
+    @Value("${app.schedules.node-id:}")
+    private String nodeId;
+    
+    private volatile TimingWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService executor;
+    
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong fired = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile LocalDateTime lastSweepAt;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = defaultNodeId();
+        }
+        wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        executor = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "publish-executor"));
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "publish-timing-wheel"));
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        reconcile();
+        logger.info("Publish scheduler {} started: tick {} ms, {} schedules loaded", nodeId, tickMillis, wheel.size());
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Loads every pending schedule due within the lookahead window into the
+     * wheel. Overdue schedules become due on the next tick.
+     */
+    @Scheduled(fixedDelayString = "${app.schedules.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.schedules.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        TimingWheel<Long> current = wheel;
+        if (current == null) {
+            return;
+        }
+        try {
+            List<PublishSchedule> upcoming = scheduleRepository
+                .findReadyToExecute(PublishSchedule.Status.PENDING, horizon());
+            for (PublishSchedule schedule : upcoming) {
+                current.schedule(schedule.getId(), toMillis(schedule.getScheduledAt()));
+            }
+            lastSweepAt = LocalDateTime.now();
+            logger.debug("Reconciled {} pending schedules into the timing wheel", upcoming.size());
+        } catch (Exception e) {
+            logger.error("Failed to reconcile pending schedules", e);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(PublishScheduleChangedEvent event) {
+        TimingWheel<Long> current = wheel;
+        if (current == null) {
+            return;
+        }
+        if (event.getStatus() == PublishSchedule.Status.PENDING && !event.getScheduledAt().isAfter(horizon())) {
+            current.schedule(event.getScheduleId(), toMillis(event.getScheduledAt()));
+        } else {
+            current.cancel(event.getScheduleId());
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        TimingWheel<Long> current = wheel;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", current != null);
+        stats.put("nodeId", nodeId);
+        stats.put("queued", current != null ? current.size() : 0);
+        stats.put("tickMillis", tickMillis);
+        stats.put("lookaheadMinutes", lookaheadMinutes);
+        stats.put("claimed", claimed.get());
+        stats.put("fired", fired.get());
+        stats.put("skipped", skipped.get());
+        stats.put("failed", failed.get());
+        stats.put("lastSweepAt", lastSweepAt);
+        return stats;
+    }
+    
+    private void tick() {
+        try {
+            if (!wheel.advance(System.currentTimeMillis()).isEmpty()) {
+                requestDrain();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to advance the publish timing wheel", e);
+        }
+    }
+    
+    // Coalesces wake-ups from the same or consecutive ticks into one drain
+    private void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+    
+    private void drain() {
+        drainRequested.set(false);
+        Duration leaseDuration = Duration.ofSeconds(leaseSeconds);
+        try {
+            List<Long> batch;
+            do {
+                batch = scheduleService.claimDueSchedules(nodeId, claimBatchSize, leaseDuration);
+                claimed.addAndGet(batch.size());
+                for (Long scheduleId : batch) {
+                    fire(scheduleId);
+                }
+            } while (batch.size() == claimBatchSize);
+        } catch (Exception e) {
+            logger.error("Failed to claim due schedules", e);
+        }
+    }
+    
+    private void fire(Long scheduleId) {
+        try {
+            switch (scheduleService.executeClaimedSchedule(scheduleId, nodeId)) {
+                case EXECUTED -> fired.incrementAndGet();
+                case SKIPPED -> skipped.incrementAndGet();
+                case FAILED -> failed.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.error("Failed to execute schedule: {}", scheduleId, e);
+        }
+    }
+    
+    private LocalDateTime horizon() {
+        return LocalDateTime.now().plusMinutes(lookaheadMinutes);
+    }
+    
+    // Rounds up so a schedule never fires before its sub-millisecond scheduled time
+    private static long toMillis(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli() + (instant.getNano() % 1_000_000 == 0 ? 0 : 1);
+    }
+    
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.contentpublishing.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel: keys are dropped into the slot of the tick at which
+ * they become due, so scheduling and cancelling are O(1) and each tick only
+ * looks at one slot. Deadlines further away than one revolution wait out the
+ * remaining rounds in their slot.
+ *
+ * The wheel does not own a thread; the caller drives it with
+ * {@link #advance(long)} and receives the keys that have become due.
+ */
+public class TimingWheel<K> {
+    
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<Set<K>> slots;
+    private final Map<K, Entry> entries = new HashMap<>();
+    
+    // Next tick to be processed
+    private long tick;
+    
+    private static final class Entry {
+        private final int slot;
+        private long rounds;
+        
+        private Entry(int slot, long rounds) {
+            this.slot = slot;
+            this.rounds = rounds;
+        }
+    }
+    
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickMillis);
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize, 1) * 2 - 1);
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new HashSet<>());
+        }
+    }
+    
+    /**
+     * Schedules the key to become due at the given time, replacing any earlier
+     * deadline for it. Deadlines in the past become due on the next tick.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.max(tick, Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis));
+        int slot = (int) (deadlineTick & mask);
+        slots.get(slot).add(key);
+        entries.put(key, new Entry(slot, (deadlineTick - tick) / slots.size()));
+    }
+    
+    public synchronized boolean cancel(K key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        slots.get(entry.slot).remove(key);
+        return true;
+    }
+    
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Processes every tick that has elapsed by the given time and returns the
+     * keys that became due, removing them from the wheel.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> due = new ArrayList<>();
+        while (startMillis + tick * tickMillis <= nowMillis) {
+            Iterator<K> keys = slots.get((int) (tick & mask)).iterator();
+            while (keys.hasNext()) {
+                K key = keys.next();
+                Entry entry = entries.get(key);
+                if (entry.rounds > 0) {
+                    entry.rounds--;
+                } else {
+                    keys.remove();
+                    entries.remove(key);
+                    due.add(key);
+                }
+            }
+            tick++;
+        }
+        return due;
+    }
+    
+    public long getTickMillis() {
+        return tickMillis;
+    }
+    
+    public int getWheelSize() {
+        return slots.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,430 @@
+package com.contentpublishing.search;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over article title, summary and content.
+ *
+ * Queries match articles containing every query term (the last term also
+ * matches as a prefix) and are ranked with BM25, weighting title and summary
+ * matches above content matches. The index is built in the background once the
+ * application is ready and is kept current from {@link ArticleChangedEvent}s.
+ * Those only fire on the node that made the change, so a periodic reconcile
+ * re-indexes the articles updated since the last sweep and drops the ones
+ * deleted elsewhere.
+ */
+@Component
+public class ArticleSearchIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ArticleSearchIndex.class);
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+    
+    // Sweeps reach back this far past the previous one, for clock skew between nodes and commits in flight
+    private static final Duration RECONCILE_OVERLAP = Duration.ofMinutes(1);
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Value("${app.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedArticle> documents = new HashMap<>();
+    private long totalLength;
+    
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private volatile LocalDateTime sweptSince;
+    private long reconciles;
+    
+    /**
+     * Per-article data kept alongside the postings; enough to filter hits
+     * without going back to the database.
+     */
+    public record IndexedArticle(Long id, Article.Status status, Long authorId, String title,
+                                 int length, String[] terms) {
+    }
+    
+    public record Hits(List<Long> ids, long total) {
+    }
+    
+    private record ScoredId(long id, double score) {
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread builder = new Thread(this::rebuild, "search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+    
+    /**
+     * Re-indexes every article, reading them in id order in fixed-size batches.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            long indexed = 0;
+            Long lastId = 0L;
+            while (true) {
+                List<Article> batch = articleRepository
+                    .findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, rebuildBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Article article : batch) {
+                    index(article);
+                }
+                indexed += batch.size();
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            rebuilding = false;
+            
+            // Articles written while their batch was being read may have been indexed stale
+            reindex(List.copyOf(changedDuringRebuild));
+            sweptSince = startedAt.minus(RECONCILE_OVERLAP);
+            ready = true;
+            logger.info("Search index built: {} articles, {} terms in {} ms",
+                       indexed, getTermCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            rebuilding = false;
+            logger.error("Failed to build search index, falling back to database search", e);
+        }
+    }
+    
+    /**
+     * Picks up changes made on other nodes: re-indexes the articles updated
+     * since the last sweep and drops the ones that no longer exist. A failed
+     * build is retried instead.
+     */
+    @Scheduled(fixedDelayString = "${app.search.reconcile-interval-ms:60000}",
+               initialDelayString = "${app.search.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        if (rebuilding) {
+            return;
+        }
+        if (!ready) {
+            rebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<Long> updated = articleRepository.findIdsUpdatedSince(sweptSince);
+            reindex(updated);
+            List<Long> deleted = findDeleted();
+            reindex(deleted);
+            sweptSince = startedAt.minus(RECONCILE_OVERLAP);
+            reconciles++;
+            logger.debug("Search index reconciled: {} updated, {} deleted", updated.size(), deleted.size());
+        } catch (Exception e) {
+            logger.error("Failed to reconcile search index", e);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Whether the query has any term the index can match. Stop words and
+     * single characters are not indexed, so queries made only of those are
+     * left to the database.
+     */
+    public boolean canSearch(String query) {
+        return !Tokenizer.tokenize(query).isEmpty();
+    }
+    
+    public void index(Article article) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, article.getTitle(), TITLE_WEIGHT)
+            + addTerms(frequencies, article.getSummary(), SUMMARY_WEIGHT)
+            + addTerms(frequencies, article.getContent(), CONTENT_WEIGHT);
+        Long authorId = article.getAuthor() != null ? article.getAuthor().getId() : null;
+        IndexedArticle document = new IndexedArticle(article.getId(), article.getStatus(), authorId,
+            article.getTitle(), length, frequencies.keySet().toArray(new String[0]));
+        
+        lock.writeLock().lock();
+        try {
+            removeLocked(article.getId());
+            documents.put(document.id(), document);
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns one page of articles matching all terms of the query, best match
+     * first, together with the total number of matches.
+     */
+    public Hits search(String query, Predicate<IndexedArticle> filter, int page, int size) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.isEmpty() || size <= 0) {
+            return new Hits(List.of(), 0);
+        }
+        
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new Hits(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documents.size();
+            
+            // One group of matching terms per query term; only the last term is prefix-expanded
+            List<Map<String, Map<Long, Integer>>> groups = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                Map<String, Map<Long, Integer>> group = i == terms.size() - 1
+                    ? prefixMatches(terms.get(i))
+                    : exactMatches(terms.get(i));
+                if (group.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+                groups.add(group);
+            }
+            Map<String, Map<Long, Integer>> driver = Collections.min(groups,
+                Comparator.comparingInt(ArticleSearchIndex::postingCount));
+            
+            int wanted = (int) Math.min((long) page * size + size, Integer.MAX_VALUE);
+            PriorityQueue<ScoredId> top = new PriorityQueue<>(
+                Comparator.comparingDouble(ScoredId::score).thenComparingLong(ScoredId::id));
+            Set<Long> seen = new HashSet<>();
+            long total = 0;
+            
+            for (Map<Long, Integer> driverPostings : driver.values()) {
+                for (Long id : driverPostings.keySet()) {
+                    if (!seen.add(id)) {
+                        continue;
+                    }
+                    IndexedArticle document = documents.get(id);
+                    if (filter != null && !filter.test(document)) {
+                        continue;
+                    }
+                    double score = score(id, document.length(), averageLength, groups);
+                    if (score < 0) {
+                        continue;
+                    }
+                    total++;
+                    top.offer(new ScoredId(id, score));
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+            }
+            
+            List<ScoredId> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble(ScoredId::score).thenComparingLong(ScoredId::id).reversed());
+            int from = Math.min(page * size, ranked.size());
+            List<Long> ids = ranked.subList(from, ranked.size()).stream().map(ScoredId::id).toList();
+            return new Hits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("documents", getDocumentCount());
+        stats.put("terms", getTermCount());
+        synchronized (this) {
+            stats.put("reconciles", reconciles);
+        }
+        return stats;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.getArticleIds());
+        }
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            event.getArticleIds().forEach(this::remove);
+        } else {
+            reindex(event.getArticleIds());
+        }
+    }
+    
+    // Loads the changed articles a batch per query so bulk changes don't cost a lookup per article
+    private void reindex(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += rebuildBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + rebuildBatchSize, ids.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            for (Article article : articleRepository.findAllById(chunk)) {
+                index(article);
+                missing.remove(article.getId());
+            }
+            missing.forEach(this::remove);
+        }
+    }
+    
+    // Indexed ids with no row left, found by walking the table's ids in step with a snapshot of the index
+    private List<Long> findDeleted() {
+        long[] indexed;
+        lock.readLock().lock();
+        try {
+            indexed = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> deleted = new ArrayList<>();
+        int next = 0;
+        Long lastId = 0L;
+        while (next < indexed.length) {
+            List<Long> batch = articleRepository.findIdsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+            long upTo = batch.size() < rebuildBatchSize ? Long.MAX_VALUE : batch.get(batch.size() - 1);
+            Set<Long> existing = new HashSet<>(batch);
+            for (; next < indexed.length && indexed[next] <= upTo; next++) {
+                if (!existing.contains(indexed[next])) {
+                    deleted.add(indexed[next]);
+                }
+            }
+            lastId = upTo;
+        }
+        return deleted;
+    }
+    
+    // Returns -1 if the document is missing from any term group
+    private double score(Long id, int length, double averageLength, List<Map<String, Map<Long, Integer>>> groups) {
+        int documentCount = documents.size();
+        double norm = K1 * (1 - B + B * length / averageLength);
+        double score = 0;
+        for (Map<String, Map<Long, Integer>> group : groups) {
+            boolean matched = false;
+            for (Map<Long, Integer> termPostings : group.values()) {
+                Integer frequency = termPostings.get(id);
+                if (frequency == null) {
+                    continue;
+                }
+                matched = true;
+                int df = termPostings.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                score += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+            if (!matched) {
+                return -1;
+            }
+        }
+        return score;
+    }
+    
+    private Map<String, Map<Long, Integer>> exactMatches(String term) {
+        Map<Long, Integer> termPostings = postings.get(term);
+        return termPostings == null ? Map.of() : Map.of(term, termPostings);
+    }
+    
+    private Map<String, Map<Long, Integer>> prefixMatches(String prefix) {
+        Map<String, Map<Long, Integer>> matches = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || matches.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            matches.put(entry.getKey(), entry.getValue());
+        }
+        return matches;
+    }
+    
+    private static int postingCount(Map<String, Map<Long, Integer>> group) {
+        int count = 0;
+        for (Map<Long, Integer> termPostings : group.values()) {
+            count += termPostings.size();
+        }
+        return count;
+    }
+    
+    private int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = Tokenizer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+    
+    private void removeLocked(Long articleId) {
+        IndexedArticle existing = documents.remove(articleId);
+        if (existing == null) {
+            return;
+        }
+        totalLength -= existing.length();
+        for (String term : existing.terms()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(articleId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
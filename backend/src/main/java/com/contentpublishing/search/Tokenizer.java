@@ -0,0 +1,54 @@
+package com.contentpublishing.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased alphanumeric terms for the search index.
+ * Very short terms and common English stop words are dropped.
+ */
+public final class Tokenizer {
+    
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 64;
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+        "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+        "they", "this", "to", "was", "will", "with"
+    );
+    
+    private Tokenizer() {
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else if (term.length() > 0) {
+                addTerm(terms, term);
+            }
+        }
+        if (term.length() > 0) {
+            addTerm(terms, term);
+        }
+        return terms;
+    }
+    
+    private static void addTerm(List<String> terms, StringBuilder term) {
+        if (term.length() >= MIN_TERM_LENGTH && term.length() <= MAX_TERM_LENGTH) {
+            String value = term.toString();
+            if (!STOP_WORDS.contains(value)) {
+                terms.add(value);
+            }
+        }
+        term.setLength(0);
+    }
+}
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.contentpublishing.security;
 
+import com.contentpublishing.cache.BoundedCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,9 +11,15 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
@@ -25,8 +33,58 @@ public class JwtUtil {
     @Value("${app.jwt.expiration}")
     private long jwtExpirationInMs;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${app.jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+    
+    @Value("${app.jwt.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+    
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    // Verified claims by token hash, so repeat requests with the same token skip the signature check
+    private BoundedCache<String, Claims> verifiedClaims;
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedClaims = new BoundedCache<>("jwtClaims", cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+    }
+    
+    /**
+     * Verifies the token once and returns its claims, or an empty result if the
+     * token is invalid or expired. Verified claims are cached until the token
+     * expires or the cache TTL passes, whichever comes first.
+     */
+    public Optional<Claims> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String key = hash(token);
+        Claims claims = verifiedClaims.get(key);
+        if (claims != null) {
+            if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
+                verifiedClaims.invalidate(key);
+                logger.warn("JWT token is expired: {}", claims.getExpiration());
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        }
+        try {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("JWT validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+        verifiedClaims.put(key, claims);
+        return Optional.of(claims);
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return verifiedClaims.getStats();
     }
     
     public String extractUsername(String token) {
@@ -38,17 +96,14 @@ public class JwtUtil {
     }
     
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token)
+                .orElseThrow(() -> new MalformedJwtException("Invalid or expired JWT token"));
         return claimsResolver.apply(claims);
     }
     
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             logger.warn("JWT token is expired: {}", e.getMessage());
             throw e;
@@ -67,10 +122,6 @@ public class JwtUtil {
         }
     }
     
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, userDetails.getUsername());
@@ -90,31 +141,30 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("JWT validation failed: {}", e.getMessage());
-            return false;
-        }
+        return parseToken(token)
+                .map(claims -> userDetails.getUsername().equals(claims.getSubject()))
+                .orElse(false);
     }
     
     public Boolean validateToken(String token) {
-        try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("JWT validation failed: {}", e.getMessage());
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
     
     public long getExpirationTime() {
         return jwtExpirationInMs;
     }
+    
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 } 
\ No newline at end of file
@@ -65,6 +65,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/articles/published").permitAll()
                 .requestMatchers("/api/articles/most-viewed").permitAll()
                 .requestMatchers("/api/articles/*").permitAll() // Allow access to individual articles
+                .requestMatchers("/api/articles/*/related").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/error").permitAll()
                 .anyRequest().authenticated()
@@ -0,0 +1,254 @@
+package com.contentpublishing.service;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.User;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.TagUsageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports newline-delimited JSON articles. Records are read and validated one
+ * line at a time and written in chunks, each chunk committing in its own
+ * transaction with its tags resolved in one batch. Per-record results are
+ * handed to the caller as soon as their chunk has committed.
+ */
+@Service
+public class ArticleImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ArticleImportService.class);
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private TagUsageRepository tagUsageRepository;
+    
+    @Autowired
+    private TagService tagService;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+    
+    // Requested tags are kept apart from the article so a chunk can be retried after a rollback
+    private record PendingArticle(int line, Article article, List<Tag> tags) {
+    }
+    
+    public Map<String, Object> importArticles(BufferedReader reader, Consumer<List<Map<String, Object>>> resultSink)
+            throws IOException {
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            throw new RuntimeException("User not authenticated");
+        }
+        
+        long started = System.currentTimeMillis();
+        List<PendingArticle> chunk = new ArrayList<>(chunkSize);
+        List<Map<String, Object>> results = new ArrayList<>();
+        int lineNumber = 0;
+        int imported = 0;
+        int failed = 0;
+        
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            
+            Article article;
+            try {
+                article = objectMapper.readValue(line, Article.class);
+            } catch (JsonProcessingException e) {
+                results.add(failure(lineNumber, "Invalid JSON: " + e.getOriginalMessage(), "INVALID_JSON"));
+                failed++;
+                continue;
+            }
+            
+            Set<ConstraintViolation<Article>> violations = validator.validate(article);
+            if (!violations.isEmpty()) {
+                results.add(failure(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")), "INVALID_RECORD"));
+                failed++;
+                continue;
+            }
+            
+            chunk.add(new PendingArticle(lineNumber, article,
+                article.getTags() != null ? new ArrayList<>(article.getTags()) : List.of()));
+            if (chunk.size() >= chunkSize || results.size() >= chunkSize) {
+                int saved = writeChunk(chunk, currentUser, results);
+                imported += saved;
+                failed += chunk.size() - saved;
+                emit(results, resultSink);
+                chunk.clear();
+            }
+        }
+        
+        if (!chunk.isEmpty() || !results.isEmpty()) {
+            int saved = writeChunk(chunk, currentUser, results);
+            imported += saved;
+            failed += chunk.size() - saved;
+            emit(results, resultSink);
+        }
+        
+        long elapsed = System.currentTimeMillis() - started;
+        logger.info("Imported {} articles ({} failed) in {} ms", imported, failed, elapsed);
+        
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("imported", imported);
+        summary.put("failed", failed);
+        summary.put("elapsedMs", elapsed);
+        return summary;
+    }
+    
+    // Falls back to one transaction per record when the chunk fails, so one bad row only rejects itself
+    private int writeChunk(List<PendingArticle> chunk, User author, List<Map<String, Object>> results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            results.addAll(saveInTransaction(chunk, author));
+            return chunk.size();
+        } catch (Exception e) {
+            if (chunk.size() == 1) {
+                PendingArticle pending = chunk.get(0);
+                logger.debug("Failed to import article on line {}", pending.line(), e);
+                results.add(failure(pending.line(), NestedExceptionUtils.getMostSpecificCause(e).getMessage(),
+                    "IMPORT_FAILED"));
+                return 0;
+            }
+            logger.warn("Import chunk of {} articles failed, retrying one at a time: {}", chunk.size(), e.getMessage());
+        }
+        
+        int saved = 0;
+        for (PendingArticle pending : chunk) {
+            saved += writeChunk(List.of(pending), author, results);
+        }
+        return saved;
+    }
+    
+    private List<Map<String, Object>> saveInTransaction(List<PendingArticle> chunk, User author) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return transaction.execute(status -> save(chunk, author));
+        } finally {
+            // Keep the persistence context from growing with the import when it outlives the transaction
+            entityManager.clear();
+        }
+    }
+    
+    private List<Map<String, Object>> save(List<PendingArticle> chunk, User author) {
+        // Resolve every tag in the chunk at once, then hand each article its own resolved tags
+        List<Tag> requestedTags = new ArrayList<>();
+        for (PendingArticle pending : chunk) {
+            requestedTags.addAll(pending.tags());
+        }
+        Map<Long, Tag> tagsById = new HashMap<>();
+        Map<String, Tag> tagsByName = new HashMap<>();
+        for (Tag tag : tagService.resolveTags(requestedTags)) {
+            tagsById.put(tag.getId(), tag);
+            tagsByName.put(TagService.nameKey(tag.getName()), tag);
+        }
+        
+        List<Article> articles = new ArrayList<>(chunk.size());
+        Map<Long, Integer> tagUsage = new HashMap<>();
+        for (PendingArticle pending : chunk) {
+            Article article = pending.article();
+            Set<Tag> tags = new LinkedHashSet<>();
+            for (Tag tag : pending.tags()) {
+                tags.add(tag.getId() != null ? tagsById.get(tag.getId()) : tagsByName.get(TagService.nameKey(tag.getName())));
+            }
+            tags.forEach(tag -> tagUsage.merge(tag.getId(), 1, Integer::sum));
+            
+            article.setId(null);
+            article.setAuthor(author);
+            article.setTags(new ArrayList<>(tags));
+            articles.add(article);
+        }
+        
+        List<Article> saved = articleRepository.saveAll(articles);
+        articleRepository.flush();
+        
+        // One update per distinct count rather than one per tag
+        Map<Integer, List<Long>> tagsByUsage = new TreeMap<>();
+        tagUsage.forEach((tagId, count) -> tagsByUsage.computeIfAbsent(count, key -> new ArrayList<>()).add(tagId));
+        tagsByUsage.forEach((count, tagIds) -> tagUsageRepository.adjustUsageCount(tagIds, count));
+        
+        List<Long> ids = saved.stream().map(Article::getId).toList();
+        eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.CREATED, ids));
+        
+        List<Map<String, Object>> results = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("line", chunk.get(i).line());
+            result.put("success", true);
+            result.put("id", saved.get(i).getId());
+            result.put("slug", saved.get(i).getSlug());
+            results.add(result);
+        }
+        return results;
+    }
+    
+    private static void emit(List<Map<String, Object>> results, Consumer<List<Map<String, Object>>> resultSink) {
+        results.sort(Comparator.comparingInt(result -> (Integer) result.get("line")));
+        resultSink.accept(List.copyOf(results));
+        results.clear();
+    }
+    
+    private static Map<String, Object> failure(int line, String message, String error) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("line", line);
+        result.put("success", false);
+        result.put("message", message);
+        result.put("error", error);
+        return result;
+    }
+}
\ No newline at end of file
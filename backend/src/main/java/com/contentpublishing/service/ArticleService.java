@@ -1,22 +1,51 @@
 package com.contentpublishing.service;
 
+import com.contentpublishing.analytics.ViewCountBuffer;
+import com.contentpublishing.cache.PublishedArticleCache;
+import com.contentpublishing.dto.ArticleSummary;
 import com.contentpublishing.entity.Article;
 import com.contentpublishing.entity.Tag;
 import com.contentpublishing.entity.User;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.feed.MostViewedArticles;
+import com.contentpublishing.feed.RecentArticles;
+import com.contentpublishing.feed.RelatedArticles;
+import com.contentpublishing.feed.TrendingArticles;
 import com.contentpublishing.repository.ArticleRepository;
-import com.contentpublishing.repository.TagRepository;
+import com.contentpublishing.repository.ArticleSpecifications;
+import com.contentpublishing.repository.TagUsageRepository;
+import com.contentpublishing.search.ArticleSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.ArrayList;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -24,54 +53,145 @@ public class ArticleService {
     
     private static final Logger logger = LoggerFactory.getLogger(ArticleService.class);
     
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+    
+    public enum StatusTransition {
+        PUBLISH, UNPUBLISH, ARCHIVE
+    }
+    
     @Autowired
     private ArticleRepository articleRepository;
     
     @Autowired
-    private TagRepository tagRepository;
+    private TagUsageRepository tagUsageRepository;
+    
+    @Autowired
+    private TagService tagService;
     
     @Autowired
     private AuthService authService;
     
-    public Page<Article> getAllArticles(Pageable pageable) {
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private PublishedArticleCache articleCache;
+    
+    @Autowired
+    private ArticleSearchIndex searchIndex;
+    
+    @Autowired
+    private MostViewedArticles mostViewedArticles;
+    
+    @Autowired
+    private RecentArticles recentArticles;
+    
+    @Autowired
+    private TrendingArticles trendingArticles;
+    
+    @Autowired
+    private RelatedArticles relatedArticles;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.articles.bulk-max-ids:1000}")
+    private int bulkMaxIds;
+    
+    @Value("${app.articles.bulk-chunk-size:500}")
+    private int bulkChunkSize;
+    
+    public Page<ArticleSummary> getAllArticles(Pageable pageable) {
         logger.debug("Fetching all articles with pagination");
-        return articleRepository.findAll(pageable);
+        return articleRepository.findSummaries(null, pageable);
     }
     
-    public Page<Article> getArticlesWithFilters(String title, String content, 
+    public Window<ArticleSummary> getArticlesAfter(String title, String content, Article.Status status, Long authorId,
+                                            Sort sort, int size, KeysetScrollPosition position) {
+        logger.debug("Scrolling articles with filters: title={}, content={}, status={}, authorId={}, position={}",
+                    title, content, status, authorId, position);
+        return articleRepository.scrollSummaries(ArticleSpecifications.withFilters(title, content, status, authorId),
+            sort, size, position);
+    }
+    
+    public Page<ArticleSummary> getArticlesWithFilters(String title, String content, 
                                               Article.Status status, Long authorId, 
                                               Pageable pageable) {
         logger.debug("Fetching articles with filters: title={}, content={}, status={}, authorId={}", 
                     title, content, status, authorId);
-        return articleRepository.findArticlesWithFilters(title, content, status, authorId, pageable);
+        
+        // Content matching is served by the search index; the remaining filters are applied to its hits
+        if (content != null && searchIndex.isReady() && searchIndex.canSearch(content)) {
+            String titleFilter = title != null ? title.toLowerCase() : null;
+            return findInSearchIndex(content, document ->
+                (titleFilter == null || document.title().toLowerCase().contains(titleFilter)) &&
+                (status == null || document.status() == status) &&
+                (authorId == null || authorId.equals(document.authorId())), pageable);
+        }
+        return articleRepository.findSummaries(ArticleSpecifications.withFilters(title, content, status, authorId),
+            pageable);
     }
     
-    public Page<Article> searchArticles(String keyword, Pageable pageable) {
+    public Page<ArticleSummary> searchArticles(String keyword, Pageable pageable) {
         logger.debug("Searching articles with keyword: {}", keyword);
-        return articleRepository.searchArticles(keyword, pageable);
+        if (!searchIndex.isReady() || !searchIndex.canSearch(keyword)) {
+            return articleRepository.findSummaries(ArticleSpecifications.keywordMatches(keyword), pageable);
+        }
+        return findInSearchIndex(keyword, null, pageable);
     }
     
+    private Page<ArticleSummary> findInSearchIndex(String query, Predicate<ArticleSearchIndex.IndexedArticle> filter, 
+                                            Pageable pageable) {
+        ArticleSearchIndex.Hits hits = searchIndex.search(query, filter, pageable.getPageNumber(), pageable.getPageSize());
+        
+        // Load the page of hits in one query and restore the ranking order
+        Map<Long, ArticleSummary> articlesById = new HashMap<>();
+        if (!hits.ids().isEmpty()) {
+            articleRepository.findSummaries(ArticleSpecifications.idIn(hits.ids()), Sort.unsorted(), hits.ids().size())
+                .forEach(article -> articlesById.put(article.getId(), article));
+        }
+        List<ArticleSummary> articles = hits.ids().stream()
+            .map(articlesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+        
+        return new PageImpl<>(articles, pageable, hits.total());
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<Article> getArticleById(Long id) {
         logger.debug("Fetching article by ID: {}", id);
-        Optional<Article> article = articleRepository.findById(id);
+        // Taken before the read, so a change committed while loading keeps the row out of the cache
+        long cacheVersion = articleCache.version();
+        Article cached = articleCache.getById(id);
+        Optional<Article> article = cached != null
+            ? Optional.of(cached)
+            : articleRepository.findWithAuthorAndTagsById(id).map(loaded -> articleCache.put(loaded, cacheVersion));
         
-        // Increment view count if article is found and published
+        // Count the view if article is found and published; written behind by the buffer
         if (article.isPresent() && article.get().getStatus() == Article.Status.PUBLISHED) {
-            article.get().incrementViewCount();
-            articleRepository.save(article.get());
+            viewCountBuffer.recordView(article.get().getId());
         }
         
         return article;
     }
     
+    @Transactional(readOnly = true)
     public Optional<Article> getArticleBySlug(String slug) {
         logger.debug("Fetching article by slug: {}", slug);
-        Optional<Article> article = articleRepository.findBySlug(slug);
+        // Taken before the read, so a change committed while loading keeps the row out of the cache
+        long cacheVersion = articleCache.version();
+        Article cached = articleCache.getBySlug(slug);
+        Optional<Article> article = cached != null
+            ? Optional.of(cached)
+            : articleRepository.findBySlug(slug).map(loaded -> articleCache.put(loaded, cacheVersion));
         
-        // Increment view count if article is found and published
+        // Count the view if article is found and published; written behind by the buffer
         if (article.isPresent() && article.get().getStatus() == Article.Status.PUBLISHED) {
-            article.get().incrementViewCount();
-            articleRepository.save(article.get());
+            viewCountBuffer.recordView(article.get().getId());
         }
         
         return article;
@@ -88,22 +208,12 @@ public class ArticleService {
             
             // Process tags
             if (article.getTags() != null && !article.getTags().isEmpty()) {
-                List<Tag> processedTags = article.getTags().stream()
-                    .map(tag -> {
-                        if (tag.getId() != null) {
-                            return tagRepository.findById(tag.getId())
-                                .orElseThrow(() -> new RuntimeException("Tag not found: " + tag.getId()));
-                        } else {
-                            // Check if tag with same name exists
-                            Optional<Tag> existingTag = tagRepository.findByName(tag.getName());
-                            return existingTag.orElseGet(() -> tagRepository.save(tag));
-                        }
-                    })
-                    .toList();
-                article.setTags(processedTags);
+                article.setTags(tagService.resolveTags(article.getTags()));
             }
             
             Article savedArticle = articleRepository.save(article);
+            adjustTagUsage(tagIds(savedArticle.getTags()), 1);
+            eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.CREATED, savedArticle.getId()));
             logger.info("Article created successfully: {}", savedArticle.getId());
             return savedArticle;
             
@@ -138,22 +248,23 @@ public class ArticleService {
             article.setMetaDescription(articleDetails.getMetaDescription());
             
             // Process tags
+            Set<Long> previousTagIds = tagIds(article.getTags());
             if (articleDetails.getTags() != null) {
-                List<Tag> processedTags = articleDetails.getTags().stream()
-                    .map(tag -> {
-                        if (tag.getId() != null) {
-                            return tagRepository.findById(tag.getId())
-                                .orElseThrow(() -> new RuntimeException("Tag not found: " + tag.getId()));
-                        } else {
-                            Optional<Tag> existingTag = tagRepository.findByName(tag.getName());
-                            return existingTag.orElseGet(() -> tagRepository.save(tag));
-                        }
-                    })
-                    .toList();
-                article.setTags(new ArrayList<>(processedTags));
+                article.setTags(tagService.resolveTags(articleDetails.getTags()));
+                // A change to the tags alone leaves the row clean; other nodes' indexes find changes by updated_at
+                if (!tagIds(article.getTags()).equals(previousTagIds)) {
+                    article.setUpdatedAt(LocalDateTime.now());
+                }
             }
             
             Article updatedArticle = articleRepository.save(article);
+            Set<Long> currentTagIds = tagIds(updatedArticle.getTags());
+            Set<Long> addedTagIds = new HashSet<>(currentTagIds);
+            addedTagIds.removeAll(previousTagIds);
+            previousTagIds.removeAll(currentTagIds);
+            adjustTagUsage(addedTagIds, 1);
+            adjustTagUsage(previousTagIds, -1);
+            eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.UPDATED, id));
             logger.info("Article updated successfully: {}", id);
             return updatedArticle;
             
@@ -181,6 +292,7 @@ public class ArticleService {
             
             article.publish();
             Article publishedArticle = articleRepository.save(article);
+            eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.PUBLISHED, id));
             logger.info("Article published successfully: {}", id);
             return publishedArticle;
             
@@ -190,6 +302,77 @@ public class ArticleService {
         }
     }
     
+    /**
+     * Applies one status transition to a set of articles. Ownership of the whole set is checked
+     * with one query, the permitted articles are updated with one UPDATE per chunk, and a single
+     * change event covers the batch. Ids that don't exist or may not be changed are reported back.
+     */
+    public Map<String, Object> transitionArticles(Collection<Long> ids, StatusTransition transition) {
+        try {
+            User currentUser = authService.getCurrentUser();
+            if (currentUser == null) {
+                throw new RuntimeException("User not authenticated");
+            }
+            
+            Set<Long> requested = new LinkedHashSet<>(ids);
+            requested.remove(null);
+            if (requested.size() > bulkMaxIds) {
+                throw new RuntimeException("At most " + bulkMaxIds + " articles can be changed at once");
+            }
+            
+            Map<Long, Long> authorIds = new HashMap<>();
+            if (!requested.isEmpty()) {
+                for (Object[] row : articleRepository.findAuthorIdsByIdIn(requested)) {
+                    authorIds.put((Long) row[0], (Long) row[1]);
+                }
+            }
+            
+            boolean isAdmin = currentUser.getRole().equals(User.Role.ADMIN);
+            List<Long> permitted = new ArrayList<>();
+            List<Long> notFound = new ArrayList<>();
+            List<Long> denied = new ArrayList<>();
+            for (Long id : requested) {
+                Long authorId = authorIds.get(id);
+                if (authorId == null) {
+                    notFound.add(id);
+                } else if (isAdmin || authorId.equals(currentUser.getId())) {
+                    permitted.add(id);
+                } else {
+                    denied.add(id);
+                }
+            }
+            
+            LocalDateTime now = LocalDateTime.now();
+            int updated = 0;
+            for (int from = 0; from < permitted.size(); from += bulkChunkSize) {
+                List<Long> chunk = permitted.subList(from, Math.min(from + bulkChunkSize, permitted.size()));
+                updated += switch (transition) {
+                    case PUBLISH -> articleRepository.publishAll(chunk, now);
+                    case UNPUBLISH -> articleRepository.unpublishAll(chunk, now);
+                    case ARCHIVE -> articleRepository.archiveAll(chunk, now);
+                };
+            }
+            
+            if (!permitted.isEmpty()) {
+                ArticleChangedEvent.Type type = transition == StatusTransition.PUBLISH ?
+                    ArticleChangedEvent.Type.PUBLISHED : ArticleChangedEvent.Type.UPDATED;
+                eventPublisher.publishEvent(new ArticleChangedEvent(this, type, permitted));
+            }
+            logger.info("Applied {} to {} articles ({} not found, {} denied)",
+                       transition, updated, notFound.size(), denied.size());
+            
+            Map<String, Object> result = new HashMap<>();
+            result.put("updated", permitted);
+            result.put("notFound", notFound);
+            result.put("denied", denied);
+            return result;
+            
+        } catch (Exception e) {
+            logger.error("Failed to apply {} to articles", transition, e);
+            throw new RuntimeException("Failed to change article status: " + e.getMessage(), e);
+        }
+    }
+    
     public void deleteArticle(Long id) {
         try {
             Article article = articleRepository.findById(id)
@@ -206,7 +389,10 @@ public class ArticleService {
                 throw new RuntimeException("Access denied: You can only delete your own articles");
             }
             
+            Set<Long> removedTagIds = tagIds(article.getTags());
             articleRepository.delete(article);
+            adjustTagUsage(removedTagIds, -1);
+            eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.DELETED, id));
             logger.info("Article deleted successfully: {}", id);
             
         } catch (Exception e) {
@@ -215,28 +401,95 @@ public class ArticleService {
         }
     }
     
-    public Page<Article> getPublishedArticles(Pageable pageable) {
+    // Usage counts are adjusted in SQL so concurrent article writes never lose an update
+    private void adjustTagUsage(Set<Long> tagIds, long delta) {
+        if (!tagIds.isEmpty()) {
+            tagUsageRepository.adjustUsageCount(tagIds, delta);
+        }
+    }
+    
+    private static Set<Long> tagIds(List<Tag> tags) {
+        Set<Long> ids = new HashSet<>();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                ids.add(tag.getId());
+            }
+        }
+        return ids;
+    }
+    
+    public Page<ArticleSummary> getPublishedArticles(Pageable pageable) {
         logger.debug("Fetching published articles");
-        return articleRepository.findPublishedArticles(Article.Status.PUBLISHED, LocalDateTime.now(), pageable);
+        return articleRepository.findSummaries(ArticleSpecifications.publishedBefore(LocalDateTime.now()), pageable);
     }
     
-    public Page<Article> getArticlesByAuthor(User author, Pageable pageable) {
+    public Window<ArticleSummary> getPublishedArticlesAfter(Sort sort, int size, KeysetScrollPosition position) {
+        logger.debug("Scrolling published articles from position: {}", position);
+        return articleRepository.scrollSummaries(ArticleSpecifications.publishedBefore(LocalDateTime.now()),
+            sort, size, position);
+    }
+    
+    public Page<ArticleSummary> getArticlesByAuthor(User author, Pageable pageable) {
         logger.debug("Fetching articles by author: {}", author.getUsername());
-        return articleRepository.findByAuthor(author, pageable);
+        return articleRepository.findSummaries(ArticleSpecifications.withFilters(null, null, null, author.getId()),
+            pageable);
     }
     
-    public Page<Article> getArticlesByTag(Long tagId, Pageable pageable) {
+    public Page<ArticleSummary> getArticlesByTag(Long tagId, Pageable pageable) {
         logger.debug("Fetching articles by tag ID: {}", tagId);
-        return articleRepository.findByTagId(tagId, pageable);
+        return articleRepository.findSummaries(ArticleSpecifications.taggedWith(tagId), pageable);
     }
     
-    public List<Article> getMostViewedArticles() {
+    // Both feeds are served from memory; the queries only cover the window before they are first built
+    public List<ArticleSummary> getMostViewedArticles() {
         logger.debug("Fetching most viewed articles");
-        return articleRepository.findTop5ByOrderByViewCountDesc();
+        if (mostViewedArticles.isReady()) {
+            return mostViewedArticles.getArticles();
+        }
+        return articleRepository.findSummaries(ArticleSpecifications.withFilters(null, null, Article.Status.PUBLISHED, null),
+            Sort.by(Sort.Direction.DESC, "viewCount", "id"), 5);
     }
     
-    public List<Article> getRecentArticles() {
+    public List<ArticleSummary> getRecentArticles() {
         logger.debug("Fetching recent published articles");
-        return articleRepository.findTop10ByStatusOrderByCreatedAtDesc(Article.Status.PUBLISHED);
+        if (recentArticles.isReady()) {
+            return recentArticles.getArticles();
+        }
+        return articleRepository.findSummaries(ArticleSpecifications.withFilters(null, null, Article.Status.PUBLISHED, null),
+            Sort.by(Sort.Direction.DESC, "publishedAt", "id"), 10);
+    }
+    
+    // Trending scores only exist in memory, so the feed is empty until they are restored
+    public List<ArticleSummary> getTrendingArticles() {
+        logger.debug("Fetching trending articles");
+        return trendingArticles.getArticles();
+    }
+    
+    public List<ArticleSummary> getRelatedArticles(Long id) {
+        logger.debug("Fetching articles related to ID: {}", id);
+        return relatedArticles.getRelated(id);
+    }
+    
+    /**
+     * Streams articles in id order to the given sink, optionally only those with the given status.
+     * Each article is detached once written and the persistence context is cleared periodically,
+     * so memory stays flat however large the table is.
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(Article.Status status, Consumer<Article> sink) {
+        long exported = 0;
+        try (Stream<Article> articles = articleRepository.streamForExport(status)) {
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                sink.accept(article);
+                entityManager.detach(article);
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        logger.info("Exported {} articles", exported);
+        return exported;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
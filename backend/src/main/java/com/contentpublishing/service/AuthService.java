@@ -4,11 +4,13 @@ import com.contentpublishing.dto.JwtResponse;
 import com.contentpublishing.dto.LoginRequest;
 import com.contentpublishing.dto.RegisterRequest;
 import com.contentpublishing.entity.User;
+import com.contentpublishing.event.UserChangedEvent;
 import com.contentpublishing.repository.UserRepository;
 import com.contentpublishing.security.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -39,6 +41,9 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public JwtResponse login(LoginRequest loginRequest) {
         try {
             logger.info("Attempting login for user: {}", loginRequest.getUsername());
@@ -56,6 +61,7 @@ public class AuthService {
             // Update last login time
             userPrincipal.setLastLogin(LocalDateTime.now());
             userRepository.save(userPrincipal);
+            eventPublisher.publishEvent(new UserChangedEvent(this, userPrincipal.getUsername()));
             
             String jwt = jwtUtil.generateToken(userPrincipal);
             
@@ -1,5 +1,6 @@
 package com.contentpublishing.service;
 
+import com.contentpublishing.cache.PrincipalCache;
 import com.contentpublishing.entity.User;
 import com.contentpublishing.repository.UserRepository;
 import org.slf4j.Logger;
@@ -9,7 +10,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -19,9 +19,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    // Not transactional: a cache hit should not open a transaction or borrow a connection
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long cacheVersion = principalCache.version();
+        User cached = principalCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        
         logger.debug("Loading user by username: {}", username);
         
         User user = userRepository.findByUsername(username)
@@ -30,6 +39,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                     return new UsernameNotFoundException("User not found with username: " + username);
                 });
         
+        principalCache.put(user, cacheVersion);
         logger.debug("User loaded successfully: {}", username);
         return user;
     }
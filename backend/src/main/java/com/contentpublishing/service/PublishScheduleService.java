@@ -3,17 +3,28 @@ package com.contentpublishing.service;
 import com.contentpublishing.entity.Article;
 import com.contentpublishing.entity.PublishSchedule;
 import com.contentpublishing.entity.User;
+import com.contentpublishing.event.ArticleChangedEvent;
+import com.contentpublishing.event.PublishScheduleChangedEvent;
 import com.contentpublishing.repository.ArticleRepository;
 import com.contentpublishing.repository.PublishScheduleRepository;
+import com.contentpublishing.repository.PublishScheduleSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +35,10 @@ public class PublishScheduleService {
     
     private static final Logger logger = LoggerFactory.getLogger(PublishScheduleService.class);
     
+    public enum ExecutionResult {
+        EXECUTED, SKIPPED, FAILED
+    }
+    
     @Autowired
     private PublishScheduleRepository scheduleRepository;
     
@@ -33,11 +48,30 @@ public class PublishScheduleService {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
     public Page<PublishSchedule> getAllSchedules(Pageable pageable) {
         logger.debug("Fetching all schedules with pagination");
         return scheduleRepository.findAll(pageable);
     }
     
+    public Window<PublishSchedule> getSchedulesAfter(PublishSchedule.Status status,
+                                                     Long articleId,
+                                                     Long createdById,
+                                                     LocalDateTime fromDate,
+                                                     LocalDateTime toDate,
+                                                     Sort sort, int size, KeysetScrollPosition position) {
+        logger.debug("Scrolling schedules with filters: status={}, articleId={}, createdById={}, fromDate={}, toDate={}, position={}",
+                    status, articleId, createdById, fromDate, toDate, position);
+        return scheduleRepository.findBy(
+            PublishScheduleSpecifications.withFilters(status, articleId, createdById, fromDate, toDate),
+            query -> query.sortBy(sort).limit(size).scroll(position));
+    }
+    
     public Page<PublishSchedule> getSchedulesWithFilters(PublishSchedule.Status status,
                                                        Long articleId, 
                                                        Long createdById,
@@ -76,6 +110,11 @@ public class PublishScheduleService {
                 throw new RuntimeException("Cannot schedule: Article is already published");
             }
             
+            // Validate scheduled time is in the future
+            if (schedule.getScheduledAt() == null || schedule.getScheduledAt().isBefore(LocalDateTime.now())) {
+                throw new RuntimeException("Scheduled time must be in the future");
+            }
+            
             // Check if there's already a pending schedule for this article
             List<PublishSchedule> existingSchedules = scheduleRepository
                 .findByArticleAndStatus(article, PublishSchedule.Status.PENDING);
@@ -87,6 +126,7 @@ public class PublishScheduleService {
             schedule.setArticle(article);
             
             PublishSchedule savedSchedule = scheduleRepository.save(schedule);
+            eventPublisher.publishEvent(new PublishScheduleChangedEvent(this, savedSchedule));
             logger.info("Schedule created successfully: {}", savedSchedule.getId());
             return savedSchedule;
             
@@ -98,7 +138,7 @@ public class PublishScheduleService {
     
     public PublishSchedule updateSchedule(Long id, PublishSchedule scheduleDetails) {
         try {
-            PublishSchedule schedule = scheduleRepository.findById(id)
+            PublishSchedule schedule = scheduleRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Schedule not found with id: " + id));
             
             User currentUser = authService.getCurrentUser();
@@ -117,6 +157,10 @@ public class PublishScheduleService {
                 throw new RuntimeException("Can only update pending schedules");
             }
             
+            if (schedule.isLeaseActive()) {
+                throw new RuntimeException("Schedule is already being executed by " + schedule.getLeaseOwner());
+            }
+            
             // Validate new scheduled time is in the future
             if (scheduleDetails.getScheduledAt().isBefore(LocalDateTime.now())) {
                 throw new RuntimeException("Scheduled time must be in the future");
@@ -126,6 +170,7 @@ public class PublishScheduleService {
             schedule.setMaxRetries(scheduleDetails.getMaxRetries());
             
             PublishSchedule updatedSchedule = scheduleRepository.save(schedule);
+            eventPublisher.publishEvent(new PublishScheduleChangedEvent(this, updatedSchedule));
             logger.info("Schedule updated successfully: {}", id);
             return updatedSchedule;
             
@@ -137,7 +182,7 @@ public class PublishScheduleService {
     
     public void deleteSchedule(Long id) {
         try {
-            PublishSchedule schedule = scheduleRepository.findById(id)
+            PublishSchedule schedule = scheduleRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Schedule not found with id: " + id));
             
             User currentUser = authService.getCurrentUser();
@@ -156,7 +201,12 @@ public class PublishScheduleService {
                 throw new RuntimeException("Cannot delete executed schedules");
             }
             
+            if (schedule.isLeaseActive()) {
+                throw new RuntimeException("Schedule is already being executed by " + schedule.getLeaseOwner());
+            }
+            
             scheduleRepository.delete(schedule);
+            eventPublisher.publishEvent(new PublishScheduleChangedEvent(this, id, null, null));
             logger.info("Schedule deleted successfully: {}", id);
             
         } catch (Exception e) {
@@ -167,7 +217,7 @@ public class PublishScheduleService {
     
     public PublishSchedule cancelSchedule(Long id) {
         try {
-            PublishSchedule schedule = scheduleRepository.findById(id)
+            PublishSchedule schedule = scheduleRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Schedule not found with id: " + id));
             
             User currentUser = authService.getCurrentUser();
@@ -185,8 +235,13 @@ public class PublishScheduleService {
                 throw new RuntimeException("Can only cancel pending schedules");
             }
             
+            if (schedule.isLeaseActive()) {
+                throw new RuntimeException("Schedule is already being executed by " + schedule.getLeaseOwner());
+            }
+            
             schedule.cancel();
             PublishSchedule cancelledSchedule = scheduleRepository.save(schedule);
+            eventPublisher.publishEvent(new PublishScheduleChangedEvent(this, cancelledSchedule));
             logger.info("Schedule cancelled successfully: {}", id);
             return cancelledSchedule;
             
@@ -198,7 +253,7 @@ public class PublishScheduleService {
     
     public PublishSchedule executeSchedule(Long id) {
         try {
-            PublishSchedule schedule = scheduleRepository.findById(id)
+            PublishSchedule schedule = scheduleRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Schedule not found with id: " + id));
             
             User currentUser = authService.getCurrentUser();
@@ -216,6 +271,10 @@ public class PublishScheduleService {
                 throw new RuntimeException("Can only execute pending schedules");
             }
             
+            if (schedule.isLeaseActive()) {
+                throw new RuntimeException("Schedule is already being executed by " + schedule.getLeaseOwner());
+            }
+            
             // Execute the schedule
             executeSchedule(schedule);
             
@@ -228,27 +287,64 @@ public class PublishScheduleService {
         }
     }
     
-    @Scheduled(fixedRate = 60000) // Run every minute
-    public void executeScheduledPublications() {
+    /**
+     * Leases up to {@code limit} due schedules to the given node. The rows are
+     * selected with SKIP LOCKED, so nodes claiming at the same time each get a
+     * different batch, and a schedule whose lease expired without being
+     * executed becomes claimable again.
+     */
+    public List<Long> claimDueSchedules(String owner, int limit, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = scheduleRepository.lockClaimableIds(now, limit);
+        if (!ids.isEmpty()) {
+            scheduleRepository.lease(ids, owner, now.plus(leaseDuration));
+            logger.debug("Claimed {} due schedules for {}", ids.size(), owner);
+        }
+        return ids;
+    }
+    
+    /**
+     * Executes a schedule previously claimed by the given node. Returns
+     * SKIPPED if the schedule is no longer pending or its lease has passed to
+     * another node, and FAILED if the publish failed.
+     *
+     * The publish runs in its own transaction; if it fails, that transaction
+     * is rolled back and the failure is recorded in a new one, so the schedule
+     * is marked as failed even though the publish left nothing to commit.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ExecutionResult executeClaimedSchedule(Long id, String owner) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         try {
-            List<PublishSchedule> readySchedules = scheduleRepository
-                .findReadyToExecute(PublishSchedule.Status.PENDING, LocalDateTime.now());
-            
-            logger.debug("Found {} schedules ready for execution", readySchedules.size());
-            
-            for (PublishSchedule schedule : readySchedules) {
-                try {
-                    executeSchedule(schedule);
-                } catch (Exception e) {
-                    logger.error("Failed to execute schedule: {}", schedule.getId(), e);
+            return transactionTemplate.execute(status -> {
+                PublishSchedule schedule = findClaimed(id, owner);
+                if (schedule == null) {
+                    return ExecutionResult.SKIPPED;
+                }
+                executeSchedule(schedule);
+                return ExecutionResult.EXECUTED;
+            });
+        } catch (Exception e) {
+            logger.error("Failed to execute schedule: {}", id, e);
+            transactionTemplate.executeWithoutResult(status -> {
+                PublishSchedule schedule = findClaimed(id, owner);
+                if (schedule != null) {
                     schedule.markAsFailed(e.getMessage());
                     scheduleRepository.save(schedule);
                 }
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error in scheduled publication execution", e);
+            });
+            return ExecutionResult.FAILED;
+        }
+    }
+    
+    private PublishSchedule findClaimed(Long id, String owner) {
+        PublishSchedule schedule = scheduleRepository.findByIdForUpdate(id).orElse(null);
+        if (schedule == null || !schedule.isPending() || !schedule.isLeasedBy(owner)) {
+            logger.debug("Skipping schedule {}: no longer pending or leased to {}", id, owner);
+            return null;
         }
+        return schedule;
     }
     
     private void executeSchedule(PublishSchedule schedule) {
@@ -258,10 +354,12 @@ public class PublishScheduleService {
             // Publish the article
             article.publish();
             articleRepository.save(article);
+            eventPublisher.publishEvent(new ArticleChangedEvent(this, ArticleChangedEvent.Type.PUBLISHED, article.getId()));
             
             // Mark schedule as executed
             schedule.markAsExecuted();
             scheduleRepository.save(schedule);
+            eventPublisher.publishEvent(new PublishScheduleChangedEvent(this, schedule));
             
             logger.info("Successfully executed schedule {} for article {}", schedule.getId(), article.getId());
             
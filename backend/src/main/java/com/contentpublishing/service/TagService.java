@@ -1,18 +1,43 @@
 package com.contentpublishing.service;
 
 import com.contentpublishing.entity.Tag;
+import com.contentpublishing.event.TagChangedEvent;
 import com.contentpublishing.repository.TagRepository;
+import com.contentpublishing.repository.TagSpecifications;
+import com.contentpublishing.repository.TagUsageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
@@ -20,14 +45,40 @@ public class TagService {
     
     private static final Logger logger = LoggerFactory.getLogger(TagService.class);
     
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    
+    // A concurrent insert of the same name turns into a no-op instead of a unique key violation
+    private static final String UPSERT_SQL =
+        "INSERT INTO tags (id, name, description, color_code, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE name = name";
+    
     @Autowired
     private TagRepository tagRepository;
     
+    @Autowired
+    private TagUsageRepository tagUsageRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     public Page<Tag> getAllTags(Pageable pageable) {
         logger.debug("Fetching all tags with pagination");
         return tagRepository.findAll(pageable);
     }
     
+    public Window<Tag> getTagsAfter(String name, String description, Sort sort, int size,
+                                    KeysetScrollPosition position) {
+        logger.debug("Scrolling tags with filters: name={}, description={}, position={}", name, description, position);
+        return tagRepository.findBy(TagSpecifications.withFilters(name, description),
+            query -> query.sortBy(sort).limit(size).scroll(position));
+    }
+    
     public Page<Tag> getTagsWithFilters(String name, String description, Pageable pageable) {
         logger.debug("Fetching tags with filters: name={}, description={}", name, description);
         return tagRepository.findTagsWithFilters(name, description, pageable);
@@ -48,6 +99,98 @@ public class TagService {
         return tagRepository.findByName(name);
     }
     
+    /**
+     * Resolves the tags of an article: tags with an id must exist, tags
+     * without one are matched by name and created if missing. Costs at most
+     * four statements however many tags are given: one lookup by id, one by
+     * name, one batched insert of the missing names and one read-back of them.
+     * The read-back locks the rows it reads: a name another transaction
+     * committed after the lookup by name is skipped by the insert and would be
+     * invisible to a plain read under REPEATABLE READ.
+     */
+    public List<Tag> resolveTags(Collection<Tag> requested) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Map<String, Tag> byName = new LinkedHashMap<>();
+        for (Tag tag : requested) {
+            if (tag.getId() != null) {
+                ids.add(tag.getId());
+            } else {
+                validateName(tag.getName());
+                byName.putIfAbsent(nameKey(tag.getName()), tag);
+            }
+        }
+        
+        Map<Long, Tag> found = new HashMap<>();
+        if (!ids.isEmpty()) {
+            tagRepository.findAllById(ids).forEach(tag -> found.put(tag.getId(), tag));
+            for (Long id : ids) {
+                if (!found.containsKey(id)) {
+                    throw new RuntimeException("Tag not found: " + id);
+                }
+            }
+        }
+        
+        Map<String, Tag> foundByName = new HashMap<>();
+        if (!byName.isEmpty()) {
+            List<String> names = byName.values().stream().map(Tag::getName).toList();
+            tagRepository.findByNameIn(names).forEach(tag -> foundByName.put(nameKey(tag.getName()), tag));
+            
+            List<Tag> missing = byName.entrySet().stream()
+                .filter(entry -> !foundByName.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+            if (!missing.isEmpty()) {
+                insertTags(missing);
+                tagRepository.findByNameInForShare(missing.stream().map(Tag::getName).toList())
+                    .forEach(tag -> foundByName.put(nameKey(tag.getName()), tag));
+            }
+        }
+        
+        // Keep the order the tags were given in, without duplicates
+        Set<Tag> resolved = new LinkedHashSet<>();
+        for (Tag tag : requested) {
+            Tag match = tag.getId() != null ? found.get(tag.getId()) : foundByName.get(nameKey(tag.getName()));
+            if (match == null) {
+                throw new RuntimeException("Failed to resolve tag: " + tag.getName());
+            }
+            resolved.add(match);
+        }
+        return new ArrayList<>(resolved);
+    }
+    
+    private void insertTags(List<Tag> tags) {
+        // Ids come from the same generator Hibernate uses; ids of names inserted concurrently are skipped
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+            .getMappingMetamodel().getEntityDescriptor(Tag.class).getGenerator();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            Object id = idGenerator.generate(session, tag, null, EventType.INSERT);
+            String colorCode = tag.getColorCode() != null ? tag.getColorCode() : "#007bff";
+            rows.add(new Object[] {id, tag.getName(), tag.getDescription(), colorCode, now, now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        logger.debug("Inserted up to {} new tags", tags.size());
+    }
+    
+    private static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new RuntimeException("Tag name is required");
+        }
+        if (name.length() < 2 || name.length() > 50) {
+            throw new RuntimeException("Tag name must be between 2 and 50 characters");
+        }
+    }
+    
+    // Folds names the way the accent- and case-insensitive collation compares them: accents, case and
+    // trailing spaces are ignored, "ß" matches "ss", and punctuation and inner spaces stay significant
+    static String nameKey(String name) {
+        String decomposed = Normalizer.normalize(name.stripTrailing(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+    
     public Tag createTag(Tag tag) {
         try {
             // Check if tag with same name already exists
@@ -81,6 +224,7 @@ public class TagService {
             tag.setColorCode(tagDetails.getColorCode());
             
             Tag updatedTag = tagRepository.save(tag);
+            eventPublisher.publishEvent(new TagChangedEvent(this, id));
             logger.info("Tag updated successfully: {}", id);
             return updatedTag;
             
@@ -102,6 +246,7 @@ public class TagService {
             }
             
             tagRepository.delete(tag);
+            tagUsageRepository.deleteByTagId(id);
             logger.info("Tag deleted successfully: {}", id);
             
         } catch (Exception e) {
@@ -117,7 +262,22 @@ public class TagService {
     
     public Long getArticleCountByTag(Long tagId) {
         logger.debug("Getting article count for tag: {}", tagId);
-        return tagRepository.countArticlesByTagId(tagId);
+        return tagUsageRepository.findUsageCountByTagId(tagId).orElse(0L);
+    }
+    
+    /**
+     * Recomputes every tag's usage count from the join table, for rows written
+     * before the counters table existed or outside the application. A one-off
+     * admin task: the statement holds shared locks on the whole join table
+     * while it runs, and it overwrites counts that article writes adjust
+     * concurrently, so it is run once when writes are quiet rather than on
+     * every start.
+     */
+    public int recountUsage() {
+        long started = System.currentTimeMillis();
+        int updated = tagUsageRepository.recountUsage();
+        logger.info("Recounted tag usage in {} ms ({} rows affected)", System.currentTimeMillis() - started, updated);
+        return updated;
     }
     
     public boolean existsByName(String name) {
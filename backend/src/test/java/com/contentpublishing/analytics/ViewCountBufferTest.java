@@ -0,0 +1,65 @@
+package com.contentpublishing.analytics;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Covers a flush whose batch fails partway: no delta may be written twice.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ViewCountBufferTest {
+    
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void failedBatchIsRolledBackBeforeItIsRetried() {
+        List<Long> ids = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, 0L, PageRequest.of(0, 2));
+        Long counted = ids.get(0);
+        Long overflowing = ids.get(1);
+        viewCountBuffer.flush();
+        long before = viewCount(counted);
+        long overflowingBefore = viewCount(overflowing);
+        try {
+            // One more view overflows the column, so the batch fails after the other row was updated
+            jdbcTemplate.update("UPDATE articles SET view_count = ? WHERE id = ?", Long.MAX_VALUE, overflowing);
+            viewCountBuffer.recordView(counted);
+            viewCountBuffer.recordView(overflowing);
+            
+            viewCountBuffer.flush();
+            
+            assertThat(viewCount(counted)).isEqualTo(before);
+            assertThat(viewCountBuffer.getPendingViews(counted)).isEqualTo(1);
+            
+            jdbcTemplate.update("UPDATE articles SET view_count = 0 WHERE id = ?", overflowing);
+            viewCountBuffer.flush();
+            
+            assertThat(viewCount(counted)).isEqualTo(before + 1);
+            assertThat(viewCount(overflowing)).isEqualTo(1);
+        } finally {
+            viewCountBuffer.flush();
+            jdbcTemplate.update("UPDATE articles SET view_count = ? WHERE id = ?", overflowingBefore, overflowing);
+        }
+    }
+    
+    private long viewCount(Long articleId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM articles WHERE id = ?", Long.class, articleId);
+    }
+}
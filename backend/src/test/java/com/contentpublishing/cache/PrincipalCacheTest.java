@@ -0,0 +1,50 @@
+package com.contentpublishing.cache;
+
+import com.contentpublishing.entity.User;
+import com.contentpublishing.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+    
+    private PrincipalCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new PrincipalCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        cache.init();
+    }
+    
+    @Test
+    void changeEvictsOnlyThatUser() {
+        cache.put(user(1L, "alice"), cache.version());
+        cache.put(user(2L, "bob"), cache.version());
+        
+        cache.onUserChanged(new UserChangedEvent(this, "alice"));
+        
+        assertThat(cache.get("alice")).isNull();
+        assertThat(cache.get("bob")).isNotNull();
+    }
+    
+    @Test
+    void dropsUserLoadedBeforeAnEviction() {
+        long version = cache.version();
+        User loaded = user(1L, "alice");
+        
+        cache.onUserChanged(new UserChangedEvent(this, "alice"));
+        cache.put(loaded, version);
+        
+        assertThat(cache.get("alice")).isNull();
+    }
+    
+    private static User user(Long id, String username) {
+        User user = new User(username, username + "@example.com", "hash", "First", "Last");
+        user.setId(id);
+        return user;
+    }
+}
\ No newline at end of file
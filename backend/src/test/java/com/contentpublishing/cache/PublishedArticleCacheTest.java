@@ -0,0 +1,65 @@
+package com.contentpublishing.cache;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublishedArticleCacheTest {
+    
+    private PublishedArticleCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new PublishedArticleCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        cache.init();
+    }
+    
+    @Test
+    void cachesArticleLoadedWithoutInterveningEviction() {
+        long version = cache.version();
+        cache.put(published(1L, "first"), version);
+        
+        assertThat(cache.getById(1L)).isNotNull();
+        assertThat(cache.getBySlug("first")).isNotNull();
+    }
+    
+    @Test
+    void dropsArticleLoadedBeforeAnEviction() {
+        long version = cache.version();
+        Article loaded = published(1L, "first");
+        
+        // The article changes and is evicted after the reader loaded it but before it caches it
+        cache.evict(1L);
+        Article returned = cache.put(loaded, version);
+        
+        assertThat(returned.getId()).isEqualTo(1L);
+        assertThat(cache.getById(1L)).isNull();
+        assertThat(cache.getBySlug("first")).isNull();
+    }
+    
+    @Test
+    void doesNotCacheUnpublishedArticles() {
+        Article draft = published(1L, "draft");
+        draft.setStatus(Article.Status.DRAFT);
+        
+        cache.put(draft, cache.version());
+        
+        assertThat(cache.getById(1L)).isNull();
+    }
+    
+    private static Article published(Long id, String slug) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("Title " + id);
+        article.setSlug(slug);
+        article.setStatus(Article.Status.PUBLISHED);
+        article.setAuthor(new User());
+        return article;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.contentpublishing.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheConfigTest {
+    
+    @Test
+    void closingOneContextsCacheManagerLeavesAnotherContextsRegionsOpen() {
+        CacheManager first = cacheManager();
+        CacheManager second = cacheManager();
+        try {
+            Cache<Object, Object> users = second.getCache(SecondLevelCacheConfig.USER_REGION);
+            users.put(1L, "user");
+            
+            first.close();
+            
+            assertThat(users.isClosed()).isFalse();
+            assertThat(users.get(1L)).isEqualTo("user");
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+    
+    private static CacheManager cacheManager() {
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+        ReflectionTestUtils.setField(config, "tagsMaxSize", 100L);
+        ReflectionTestUtils.setField(config, "tagsTtlSeconds", 60L);
+        ReflectionTestUtils.setField(config, "usersMaxSize", 100L);
+        ReflectionTestUtils.setField(config, "usersTtlSeconds", 60L);
+        ReflectionTestUtils.setField(config, "articleTagsMaxSize", 100L);
+        ReflectionTestUtils.setField(config, "articleTagsTtlSeconds", 60L);
+        return config.secondLevelCacheManager();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Covers the reconcile that picks up articles unpublished on other nodes,
+ * simulated by writing the rows directly, and the view counts of summaries
+ * already handed out.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RelatedArticlesTest {
+    
+    @Autowired
+    private RelatedArticles relatedArticles;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void waitForIndex() throws InterruptedException {
+        for (int i = 0; i < 100 && !relatedArticles.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(relatedArticles.isReady()).isTrue();
+    }
+    
+    @Test
+    void reconcileDropsArticlesUnpublishedElsewhere() {
+        Long articleId = relatedArticle();
+        try {
+            jdbcTemplate.update("UPDATE articles SET status = 'DRAFT' WHERE id = ?", articleId);
+            relatedArticles.reconcile();
+            
+            assertThat(relatedArticles.getRelated(articleId)).isEmpty();
+        } finally {
+            jdbcTemplate.update("UPDATE articles SET status = 'PUBLISHED', updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+                articleId);
+            relatedArticles.reconcile();
+        }
+        assertThat(relatedArticles.getRelated(articleId)).isNotEmpty();
+    }
+    
+    @Test
+    void flushedViewsLeaveSummariesAlreadyHandedOutAlone() {
+        Long articleId = relatedArticle();
+        ArticleSummary related = relatedArticles.getRelated(articleId).get(0);
+        Long viewCount = related.getViewCount();
+        
+        relatedArticles.onViewCountsFlushed(new ViewCountsFlushedEvent(this, Map.of(related.getId(), 5L)));
+        
+        assertThat(related.getViewCount()).isEqualTo(viewCount);
+    }
+    
+    private Long relatedArticle() {
+        List<Long> published = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, 0L,
+            PageRequest.of(0, 100));
+        return published.stream()
+            .filter(id -> !relatedArticles.getRelated(id).isEmpty())
+            .findFirst()
+            .orElseThrow();
+    }
+}
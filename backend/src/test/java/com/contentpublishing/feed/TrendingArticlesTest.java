@@ -0,0 +1,82 @@
+package com.contentpublishing.feed;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.event.ViewCountsFlushedEvent;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.ArticleTrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Covers the trending checkpoint when several nodes write the same score
+ * rows. Another node's checkpoint is simulated by writing its row directly.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendingArticlesTest {
+    
+    @Autowired
+    private TrendingArticles trendingArticles;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private ArticleTrendingScoreRepository scoreRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void waitForRestore() throws InterruptedException {
+        for (int i = 0; i < 100 && !trendingArticles.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(trendingArticles.isReady()).isTrue();
+    }
+    
+    @Test
+    void checkpointAddsToTheScoresOtherNodesSaved() {
+        Long articleId = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, 0L, PageRequest.of(0, 1)).get(0);
+        // Writes out whatever earlier tests left behind, so only this test's views are pending
+        trendingArticles.checkpoint();
+        jdbcTemplate.update("DELETE FROM article_trending_scores WHERE article_id = ?", articleId);
+        jdbcTemplate.update("INSERT INTO article_trending_scores (article_id, score, checkpointed_at) VALUES (?, ?, ?)",
+            articleId, 100.0, Timestamp.valueOf(LocalDateTime.now()));
+        
+        trendingArticles.onViewCountsFlushed(new ViewCountsFlushedEvent(this, Map.of(articleId, 10L)));
+        trendingArticles.checkpoint();
+        
+        assertThat(scoreRepository.findById(articleId).orElseThrow().getScore()).isCloseTo(110.0, within(0.1));
+        
+        // Nothing gained since, so the next checkpoint leaves the other node's share alone
+        trendingArticles.checkpoint();
+        
+        assertThat(scoreRepository.findById(articleId).orElseThrow().getScore()).isCloseTo(110.0, within(0.1));
+    }
+    
+    @Test
+    void checkpointDeletesRowsThatHaveDecayedAway() {
+        Long articleId = articleRepository.findIdsByStatusAfter(Article.Status.PUBLISHED, 0L, PageRequest.of(0, 1)).get(0);
+        trendingArticles.checkpoint();
+        jdbcTemplate.update("DELETE FROM article_trending_scores WHERE article_id = ?", articleId);
+        jdbcTemplate.update("INSERT INTO article_trending_scores (article_id, score, checkpointed_at) VALUES (?, ?, ?)",
+            articleId, 1.0, Timestamp.valueOf(LocalDateTime.now().minusDays(30)));
+        
+        trendingArticles.checkpoint();
+        
+        assertThat(scoreRepository.findById(articleId)).isEmpty();
+    }
+}
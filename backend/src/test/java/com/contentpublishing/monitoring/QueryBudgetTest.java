@@ -0,0 +1,196 @@
+package com.contentpublishing.monitoring;
+
+import com.contentpublishing.cache.PublishedArticleCache;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.feed.MostViewedArticles;
+import com.contentpublishing.feed.RecentArticles;
+import com.contentpublishing.feed.RelatedArticles;
+import com.contentpublishing.feed.TrendingArticles;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.search.ArticleSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Calls every endpoint listed in {@code app.query-guard.budgets} as the seeded
+ * test user and fails if it runs more statements than its budget, so the
+ * budgets are enforced by the build rather than only logged. An endpoint
+ * added to the budgets without a request here fails as well.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTest {
+    
+    private static final String TEST_USERNAME = "testuser";
+    private static final String TEST_PASSWORD = "password123";
+    
+    private static final int IMPORTED_ARTICLES = 50;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private PublishedArticleCache articleCache;
+    
+    @Autowired
+    private ArticleSearchIndex searchIndex;
+    
+    @Autowired
+    private MostViewedArticles mostViewedArticles;
+    
+    @Autowired
+    private RecentArticles recentArticles;
+    
+    @Autowired
+    private TrendingArticles trendingArticles;
+    
+    @Autowired
+    private RelatedArticles relatedArticles;
+    
+    @Value("${app.query-guard.budgets}")
+    private String budgets;
+    
+    private String token;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        // Feeds and indexes are built in the background; until then reads fall back to the database
+        awaitReady(searchIndex::isReady, mostViewedArticles::isReady, recentArticles::isReady,
+                   trendingArticles::isReady, relatedArticles::isReady);
+        token = login();
+    }
+    
+    @TestFactory
+    Stream<DynamicTest> everyBudgetedEndpointStaysWithinItsBudget() {
+        Map<String, Callable<MockHttpServletRequestBuilder>> requests = requests();
+        return QueryBudgetFilter.parseBudgets(budgets).entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(budget -> DynamicTest.dynamicTest(budget.getKey(), () -> {
+                Callable<MockHttpServletRequestBuilder> request = requests.get(budget.getKey());
+                assertThat(request).as("request for budgeted endpoint %s", budget.getKey()).isNotNull();
+                
+                List<String> statements = perform(request.call());
+                assertThat(statements)
+                    .as("statements run by %s", budget.getKey())
+                    .hasSizeLessThanOrEqualTo(budget.getValue());
+            }));
+    }
+    
+    private Map<String, Callable<MockHttpServletRequestBuilder>> requests() {
+        Map<String, Callable<MockHttpServletRequestBuilder>> requests = new HashMap<>();
+        requests.put("GET /api/articles", () -> get("/api/articles").param("size", "2"));
+        requests.put("GET /api/articles/{id}", () -> {
+            // Measure the cold read rather than the cached one
+            articleCache.evictAll();
+            return get("/api/articles/{id}", publishedArticleId());
+        });
+        requests.put("GET /api/articles/published", () -> get("/api/articles/published").param("size", "2"));
+        requests.put("GET /api/articles/most-viewed", () -> get("/api/articles/most-viewed"));
+        requests.put("GET /api/articles/recent", () -> get("/api/articles/recent"));
+        requests.put("GET /api/articles/trending", () -> get("/api/articles/trending"));
+        requests.put("GET /api/articles/{id}/related", () -> get("/api/articles/{id}/related", publishedArticleId()));
+        requests.put("GET /api/tags", () -> get("/api/tags").param("size", "2"));
+        requests.put("GET /api/tags/popular", () -> get("/api/tags/popular"));
+        requests.put("GET /api/schedules", () -> get("/api/schedules").param("size", "2"));
+        requests.put("POST /api/articles", () -> articleRequest(post("/api/articles"), "Budget create"));
+        requests.put("PUT /api/articles/{id}", () ->
+            articleRequest(put("/api/articles/{id}", createArticle("Budget update")), "Budget update, edited"));
+        requests.put("POST /api/articles/{id}/publish", () ->
+            post("/api/articles/{id}/publish", createArticle("Budget publish")));
+        requests.put("DELETE /api/articles/{id}", () -> delete("/api/articles/{id}", createArticle("Budget delete")));
+        requests.put("POST /api/articles/import", () -> post("/api/articles/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(IntStream.rangeClosed(1, IMPORTED_ARTICLES)
+                .mapToObj(i -> "{\"title\": \"Budget import " + i + "\", \"content\": \"Imported body " + i + "\", " +
+                     "\"tags\": [{\"name\": \"Programming\"}, {\"name\": \"budget-import\"}]}")
+                .collect(Collectors.joining("\n"))));
+        return requests;
+    }
+    
+    // Runs the request as the test user and returns the statements the query guard counted for it
+    @SuppressWarnings("unchecked")
+    private List<String> perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        assertThat(result.getResponse().getStatus())
+            .as("status of %s %s: %s", result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                result.getResponse().getContentAsString())
+            .isBetween(200, 299);
+        return (List<String>) result.getRequest().getAttribute(QueryBudgetFilter.STATEMENTS_ATTRIBUTE);
+    }
+    
+    private MockHttpServletRequestBuilder articleRequest(MockHttpServletRequestBuilder request, String title) {
+        return request.contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\": \"" + title + "\", \"content\": \"Body of " + title + "\", " +
+                     "\"tags\": [{\"name\": \"Programming\"}, {\"name\": \"budget\"}]}");
+    }
+    
+    private Long createArticle(String title) throws Exception {
+        MvcResult result = mockMvc.perform(articleRequest(post("/api/articles"), title)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        return readData(result).get("id").asLong();
+    }
+    
+    private Long publishedArticleId() {
+        return articleRepository.findAll().stream()
+            .filter(article -> article.getStatus() == Article.Status.PUBLISHED)
+            .map(Article::getId)
+            .findFirst()
+            .orElseThrow();
+    }
+    
+    private String login() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\": \"" + TEST_USERNAME + "\", \"password\": \"" + TEST_PASSWORD + "\"}"))
+            .andReturn();
+        return readData(result).get("token").asText();
+    }
+    
+    private JsonNode readData(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+    
+    private static void awaitReady(BooleanSupplier... conditions) throws InterruptedException {
+        for (BooleanSupplier condition : conditions) {
+            for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+                Thread.sleep(100);
+            }
+            assertThat(condition.getAsBoolean()).isTrue();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.contentpublishing.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+    
+    private static final Sort BY_TITLE = KeysetCursor.sort("title", "asc", Set.of("title"));
+    
+    @Test
+    void titlesSurviveTheCursorWhateverTheyContain() {
+        String title = "Part 1:\u001e2\u001fS\u001f3:end";
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", title);
+        keys.put("id", 42L);
+        Window<String> window = Window.from(List.of("row"), index -> ScrollPosition.forward(keys), true);
+        
+        KeysetScrollPosition position = KeysetCursor.decode(KeysetCursor.next(window), BY_TITLE);
+        
+        assertThat(position.getKeys()).containsExactly(Map.entry("title", title), Map.entry("id", 42L));
+    }
+    
+    @Test
+    void malformedCursorsAreRejected() {
+        // "5:titleS99:short": the value is shorter than its length prefix
+        assertThatThrownBy(() -> KeysetCursor.decode("NTp0aXRsZVM5OTpzaG9ydA", BY_TITLE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+    }
+}
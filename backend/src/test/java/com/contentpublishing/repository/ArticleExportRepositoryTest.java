@@ -0,0 +1,44 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleExportRepositoryTest {
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void exportLeavesTheSecondLevelCacheAlone() {
+        entityManagerFactory.getCache().evictAll();
+        
+        List<Long> authorIds = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<Article> articles = articleRepository.streamForExport(null)) {
+                return articles.map(article -> article.getAuthor().getId()).distinct().toList();
+            }
+        });
+        
+        assertThat(authorIds).isNotEmpty();
+        assertThat(authorIds).noneMatch(id -> entityManagerFactory.getCache().contains(User.class, id));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.contentpublishing.repository;
+
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TagUsageRepositoryTest {
+    
+    @Autowired
+    private TagUsageRepository tagUsageRepository;
+    
+    @Autowired
+    private TagRepository tagRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void adjustUsageCountCreatesTheCounterOnFirstUseAndAddsToIt() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long usedId = transaction.execute(status -> tagRepository.save(new Tag("usage-counted", null)).getId());
+        Long unusedId = transaction.execute(status -> tagRepository.save(new Tag("usage-unused", null)).getId());
+        
+        transaction.executeWithoutResult(status -> tagUsageRepository.adjustUsageCount(List.of(usedId), 1000));
+        transaction.executeWithoutResult(status -> tagUsageRepository.adjustUsageCount(List.of(usedId), -1));
+        
+        assertThat(tagUsageRepository.findUsageCountByTagId(usedId)).contains(999L);
+        assertThat(tagUsageRepository.findUsageCountByTagId(unusedId)).isEmpty();
+        assertThat(tagRepository.findMostUsedTags(PageRequest.of(0, 100)))
+            .extracting(Tag::getId)
+            .startsWith(usedId)
+            .doesNotContain(unusedId);
+    }
+    
+    @Test
+    void counterWritesLeaveTheSecondLevelCacheAlone() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long tagId = tagRepository.findByName("Technology").orElseThrow().getId();
+        Long userId = userRepository.findAll().get(0).getId();
+        transaction.executeWithoutResult(status -> {
+            tagRepository.findById(tagId);
+            userRepository.findById(userId);
+        });
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tagId)).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+        
+        transaction.executeWithoutResult(status -> tagUsageRepository.adjustUsageCount(List.of(tagId), 1));
+        transaction.executeWithoutResult(status -> tagUsageRepository.adjustUsageCount(List.of(tagId), -1));
+        
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tagId)).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.contentpublishing.search;
+
+import com.contentpublishing.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Covers the reconcile that picks up articles written and deleted on other
+ * nodes. Those are simulated by writing the rows directly, so no change
+ * event reaches the index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleSearchIndexTest {
+    
+    private static final long ARTICLE_ID = 990_001L;
+    
+    @Autowired
+    private ArticleSearchIndex searchIndex;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void waitForIndex() throws InterruptedException {
+        for (int i = 0; i < 100 && !searchIndex.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(searchIndex.isReady()).isTrue();
+    }
+    
+    @Test
+    void reconcilePicksUpArticlesWrittenAndDeletedElsewhere() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO articles (id, title, content, status, slug, view_count, created_at, updated_at, " +
+                            "author_id) VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)",
+            ARTICLE_ID, "Quokkas elsewhere", "Written on another node", "DRAFT", "quokkas-elsewhere", now, now,
+            userRepository.findAll().get(0).getId());
+        
+        searchIndex.reconcile();
+        
+        assertThat(searchIndex.search("quokkas", null, 0, 10).ids()).containsExactly(ARTICLE_ID);
+        
+        jdbcTemplate.update("DELETE FROM articles WHERE id = ?", ARTICLE_ID);
+        searchIndex.reconcile();
+        
+        assertThat(searchIndex.search("quokkas", null, 0, 10).ids()).isEmpty();
+    }
+    
+    @Test
+    void queriesWithoutIndexedTermsAreLeftToTheDatabase() {
+        assertThat(searchIndex.canSearch("the a")).isFalse();
+        assertThat(searchIndex.canSearch("x")).isFalse();
+        assertThat(searchIndex.canSearch("the quokka")).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package com.contentpublishing.service;
+
+import com.contentpublishing.cache.PublishedArticleCache;
+import com.contentpublishing.dto.ArticleSummary;
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.feed.RelatedArticles;
+import com.contentpublishing.monitoring.RequestQueryCounter;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.TagRepository;
+import com.contentpublishing.search.ArticleSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of statements behind the article read paths, so a lazy
+ * association touched per row shows up as a failing count instead of an N+1
+ * in production. Runs against the articles seeded by the DataInitializer.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleQueryCountTest {
+    
+    // Smaller than the seeded data, so pages also run their count query
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 2, Sort.by("id").descending());
+    
+    @Autowired
+    private ArticleService articleService;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private TagRepository tagRepository;
+    
+    @Autowired
+    private ArticleSearchIndex searchIndex;
+    
+    @Autowired
+    private PublishedArticleCache articleCache;
+    
+    @Autowired
+    private RelatedArticles relatedArticles;
+    
+    @BeforeEach
+    void waitForIndexes() throws InterruptedException {
+        for (int i = 0; i < 100 && !(searchIndex.isReady() && relatedArticles.isReady()); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(relatedArticles.isReady()).isTrue();
+    }
+    
+    @Test
+    void listLoadsSummariesCountAndTags() {
+        Counted<Page<ArticleSummary>> page = count(() -> articleService.getAllArticles(FIRST_PAGE));
+        
+        assertThat(page.result().getContent()).hasSize(2);
+        assertThat(page.result().getContent()).allSatisfy(article -> {
+            assertThat(article.getAuthor()).isNotNull();
+            assertThat(article.getTags()).isNotEmpty();
+        });
+        assertThat(page.statements()).hasSize(3);
+    }
+    
+    @Test
+    void byTagLoadsSummariesCountAndTags() {
+        Tag tag = tagRepository.findByName("Programming").orElseThrow();
+        
+        Counted<Page<ArticleSummary>> page = count(() -> articleService.getArticlesByTag(tag.getId(), FIRST_PAGE));
+        
+        assertThat(page.result().getContent()).hasSize(2);
+        assertThat(page.result().getTotalElements()).isGreaterThan(2);
+        assertThat(page.statements()).hasSize(3);
+    }
+    
+    @Test
+    void searchLoadsHitsAndTags() {
+        Counted<Page<ArticleSummary>> page = count(() -> articleService.searchArticles("react", FIRST_PAGE));
+        
+        assertThat(page.result().getContent()).isNotEmpty();
+        assertThat(page.statements()).hasSize(2);
+    }
+    
+    @Test
+    void getByIdLoadsAuthorAndTagsWithTheArticle() {
+        Long id = articleRepository.findAll(Sort.by("id")).get(0).getId();
+        articleCache.evictAll();
+        
+        Counted<Optional<Article>> cold = count(() -> articleService.getArticleById(id));
+        assertThat(cold.result()).isPresent();
+        assertThat(cold.result().get().getAuthor().getUsername()).isNotNull();
+        assertThat(cold.result().get().getTags()).isNotEmpty();
+        assertThat(cold.statements()).hasSize(1);
+        
+        Counted<Optional<Article>> cached = count(() -> articleService.getArticleById(id));
+        assertThat(cached.result()).isPresent();
+        assertThat(cached.statements()).isEmpty();
+    }
+    
+    @Test
+    void relatedIsRankedFromMemory() {
+        Long id = articleRepository.findAll(Sort.by("id")).get(0).getId();
+        
+        Counted<List<ArticleSummary>> related = count(() -> articleService.getRelatedArticles(id));
+        
+        assertThat(related.result()).isNotEmpty();
+        assertThat(related.result()).allSatisfy(article -> assertThat(article.getTags()).isNotEmpty());
+        assertThat(related.statements()).isEmpty();
+    }
+    
+    private record Counted<T>(T result, List<String> statements) {
+    }
+    
+    private static <T> Counted<T> count(Supplier<T> call) {
+        RequestQueryCounter.start();
+        try {
+            T result = call.get();
+            return new Counted<>(result, RequestQueryCounter.stop());
+        } finally {
+            RequestQueryCounter.stop();
+        }
+    }
+}
\ No newline at end of file
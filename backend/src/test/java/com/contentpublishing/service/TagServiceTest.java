@@ -0,0 +1,159 @@
+package com.contentpublishing.service;
+
+import com.contentpublishing.entity.Article;
+import com.contentpublishing.entity.Tag;
+import com.contentpublishing.monitoring.RequestQueryCounter;
+import com.contentpublishing.repository.ArticleRepository;
+import com.contentpublishing.repository.TagRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Covers tag resolution when another transaction creates the same new tag
+ * concurrently or the collation matches a differently spelled name, and the
+ * second-level cache invalidation of tag renames and deletes. H2 has no current reads, so the REPEATABLE READ snapshot that
+ * MySQL would hide the row behind is pinned through the locking clause of the
+ * read-back instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TagServiceTest {
+    
+    private static final long CONCURRENT_TAG_ID = 900_001L;
+    
+    @Autowired
+    private TagService tagService;
+    
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+    
+    @SpyBean
+    private TagRepository tagRepository;
+    
+    @Autowired
+    private ArticleRepository articleRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private volatile boolean concurrentlyInserted;
+    
+    @Test
+    void resolveTagsFindsTagCreatedByAConcurrentTransaction() {
+        String name = "concurrently-created";
+        // Another editor commits the same new tag after the lookup by name, just before the upsert
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("INSERT INTO tags") && !concurrentlyInserted) {
+                concurrentlyInserted = true;
+                TransactionTemplate other = new TransactionTemplate(transactionManager);
+                other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                other.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO tags (id, name, color_code, created_at, updated_at) " +
+                    "VALUES (?, ?, '#007bff', NOW(), NOW())", CONCURRENT_TAG_ID, name));
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        Tag requested = new Tag();
+        requested.setName(name);
+        
+        RequestQueryCounter.start();
+        List<String> statements;
+        List<Tag> resolved;
+        try {
+            resolved = new TransactionTemplate(transactionManager)
+                .execute(status -> tagService.resolveTags(List.of(requested)));
+            statements = RequestQueryCounter.stop();
+        } finally {
+            RequestQueryCounter.stop();
+        }
+        
+        assertThat(concurrentlyInserted).isTrue();
+        assertThat(resolved).extracting(Tag::getId).containsExactly(CONCURRENT_TAG_ID);
+        assertThat(statements.get(statements.size() - 1)).as("read-back of the inserted names").endsWith(" for update");
+    }
+    
+    @Test
+    void resolveTagsMatchesAnExistingNameTheWayTheCollationDoes() {
+        Tag cafe = new TransactionTemplate(transactionManager)
+            .execute(status -> tagRepository.save(new Tag("Café", null)));
+        // H2 compares names exactly; MySQL's accent- and case-insensitive collation finds "Café" for "cafe "
+        doReturn(List.of(cafe)).when(tagRepository).findByNameIn(List.of("cafe "));
+        Tag requested = new Tag();
+        requested.setName("cafe ");
+        
+        List<Tag> resolved = new TransactionTemplate(transactionManager)
+            .execute(status -> tagService.resolveTags(List.of(requested)));
+        
+        assertThat(resolved).extracting(Tag::getId).containsExactly(cafe.getId());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+    
+    @Test
+    void nameKeyIgnoresAccentsCaseAndTrailingSpacesOnly() {
+        assertThat(TagService.nameKey("Café  ")).isEqualTo(TagService.nameKey("CAFE"));
+        assertThat(TagService.nameKey("Straße")).isEqualTo(TagService.nameKey("strasse"));
+        assertThat(TagService.nameKey("a-b")).isNotEqualTo(TagService.nameKey("ab"));
+        assertThat(TagService.nameKey(" cafe")).isNotEqualTo(TagService.nameKey("cafe"));
+    }
+    
+    @Test
+    void renamedTagShowsUpOnArticlesWithCachedTags() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long articleId = articleRepository.findAll(Sort.by("id")).get(0).getId();
+        Tag tag = transaction.execute(status -> tagsOf(articleId).get(0));
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tag.getId())).isTrue();
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache()
+            .containsCollection(Article.class.getName() + ".tags", articleId)).isTrue();
+        
+        String renamed = tag.getName() + " renamed";
+        Tag details = new Tag(renamed, tag.getDescription());
+        details.setColorCode(tag.getColorCode());
+        tagService.updateTag(tag.getId(), details);
+        
+        List<String> names = transaction.execute(status -> tagsOf(articleId).stream().map(Tag::getName).toList());
+        assertThat(names).contains(renamed).doesNotContain(tag.getName());
+    }
+    
+    @Test
+    void deletedTagIsNoLongerServedFromTheCache() {
+        Long id = new TransactionTemplate(transactionManager)
+            .execute(status -> tagRepository.save(new Tag("cached-then-deleted", null)).getId());
+        assertThat(tagService.getTagById(id)).isPresent();
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, id)).isTrue();
+        
+        tagService.deleteTag(id);
+        
+        // READ_WRITE leaves a lock entry behind the delete, so look the tag up rather than probing the region
+        assertThat(tagService.getTagById(id)).isEmpty();
+    }
+    
+    private List<Tag> tagsOf(Long articleId) {
+        List<Tag> tags = articleRepository.findById(articleId).orElseThrow().getTags();
+        tags.forEach(Tag::getName);
+        return tags;
+    }
+}
\ No newline at end of file